@@ -1,5 +1,6 @@
 package lecho.lib.hellocharts.computator;
 
+import android.graphics.Matrix;
 import android.graphics.Point;
 import android.graphics.PointF;
 import android.graphics.Rect;
@@ -33,6 +34,26 @@ public class ChartComputator {
     protected Viewport maxViewport = new Viewport();
     protected float minViewportWidth;
     protected float minViewportHeight;
+    /**
+     * Cached factors of values to pixels transformation, rawX = rawOriginX + (valueX - originX) * scaleX and rawY =
+     * rawOriginY - (valueY - originY) * scaleY. Recalculated by {@link #computeTransformation()} every time viewport
+     * or content rect changes.
+     */
+    protected float originX;
+    protected float originY;
+    protected float rawOriginX;
+    protected float rawOriginY;
+    protected float scaleX;
+    protected float scaleY;
+    /**
+     * Incremented every time transformation changes, renderers use it to check if cached raw coordinates are valid.
+     */
+    protected int transformationVersion;
+    /**
+     * The last version given to transformation, versions are never reused even if {@link #transformationVersion} is
+     * restored to older one.
+     */
+    private int lastTransformationVersion;
     /**
      * Warning! Viewport listener is disabled for all charts beside preview charts to avoid additional method calls
      * during animations.
@@ -50,11 +71,13 @@ public class ChartComputator {
         maxContentRect.set(paddingLeft, paddingTop, width - paddingRight, height - paddingBottom);
         contentRectMinusAxesMargins.set(maxContentRect);
         contentRectMinusAllMargins.set(maxContentRect);
+        computeTransformation();
     }
 
     public void resetContentRect() {
         contentRectMinusAxesMargins.set(maxContentRect);
         contentRectMinusAllMargins.set(maxContentRect);
+        computeTransformation();
     }
 
     public void insetContentRect(int deltaLeft, int deltaTop, int deltaRight, int deltaBottom) {
@@ -71,6 +94,7 @@ public class ChartComputator {
         contentRectMinusAllMargins.top = contentRectMinusAllMargins.top + deltaTop;
         contentRectMinusAllMargins.right = contentRectMinusAllMargins.right - deltaRight;
         contentRectMinusAllMargins.bottom = contentRectMinusAllMargins.bottom - deltaBottom;
+        computeTransformation();
     }
 
     /**
@@ -106,6 +130,7 @@ public class ChartComputator {
         currentViewport.top = Math.min(maxViewport.top, top);
         currentViewport.right = Math.min(maxViewport.right, right);
         currentViewport.bottom = Math.max(maxViewport.bottom, bottom);
+        computeTransformation();
 
         viewportChangeListener.onViewportChanged(currentViewport);
     }
@@ -135,11 +160,7 @@ public class ChartComputator {
      * 0 that means left most pixel of the screen.
      */
     public float computeRawX(float valueX) {
-        // TODO: (contentRectMinusAllMargins.width() / currentViewport.width()) can be recalculated only when viewport
-        // change.
-        final float pixelOffset = (valueX - currentViewport.left) * (contentRectMinusAllMargins.width() /
-                currentViewport.width());
-        return contentRectMinusAllMargins.left + pixelOffset;
+        return rawOriginX + (valueX - originX) * scaleX;
     }
 
     /**
@@ -148,23 +169,89 @@ public class ChartComputator {
      * 0 that means top most pixel of the screen.
      */
     public float computeRawY(float valueY) {
-        final float pixelOffset = (valueY - currentViewport.bottom) * (contentRectMinusAllMargins.height() /
-                currentViewport.height());
-        return contentRectMinusAllMargins.bottom - pixelOffset;
+        return rawOriginY - (valueY - originY) * scaleY;
+    }
+
+    /**
+     * Translates raw pixel X coordinate into chart value, inverse of {@link #computeRawX(float)}. Unlike
+     * {@link #rawPixelsToDataPoint(float, float, PointF)} it works for coordinates outside of content rect too.
+     */
+    public float computeValueX(float rawX) {
+        return originX + (rawX - rawOriginX) / scaleX;
+    }
+
+    /**
+     * Translates raw pixel Y coordinate into chart value, inverse of {@link #computeRawY(float)}.
+     */
+    public float computeValueY(float rawY) {
+        return originY - (rawY - rawOriginY) / scaleY;
+    }
+
+    /**
+     * Translates count chart X values starting at index from of src array into raw pixel values, results are stored
+     * at the same indexes of dst array. Src and dst can be the same array.
+     */
+    public void projectX(float[] src, float[] dst, int from, int count) {
+        final float rawOriginX = this.rawOriginX;
+        final float originX = this.originX;
+        final float scaleX = this.scaleX;
+        final int to = from + count;
+        for (int i = from; i < to; ++i) {
+            dst[i] = rawOriginX + (src[i] - originX) * scaleX;
+        }
+    }
+
+    /**
+     * Translates count chart Y values starting at index from of src array into raw pixel values, results are stored
+     * at the same indexes of dst array. Src and dst can be the same array.
+     */
+    public void projectY(float[] src, float[] dst, int from, int count) {
+        final float rawOriginY = this.rawOriginY;
+        final float originY = this.originY;
+        final float scaleY = this.scaleY;
+        final int to = from + count;
+        for (int i = from; i < to; ++i) {
+            dst[i] = rawOriginY - (src[i] - originY) * scaleY;
+        }
+    }
+
+    /**
+     * Sets given matrix to transformation from chart values to raw pixel values, it can be used to transform paths
+     * built from chart values or with {@link Matrix#mapPoints(float[])} for interleaved X/Y arrays. Note that matrix
+     * computations are done on values translated by viewport origin only after they are multiplied, for very large
+     * values(i.e. timestamps) use {@link #projectX(float[], float[], int, int)} to avoid precision loss.
+     */
+    public void getTransformationMatrix(Matrix out) {
+        out.setTranslate(-originX, -originY);
+        out.postScale(scaleX, -scaleY);
+        out.postTranslate(rawOriginX, rawOriginY);
+    }
+
+    /**
+     * Sets given matrix to transformation from raw pixel values calculated for given viewport and content rect to raw
+     * pixel values for current transformation. Renderers use it to reuse paths built for previous viewport.
+     */
+    public void getTransformationMatrix(Viewport viewport, Rect contentRect, Matrix out) {
+        final float ratioX = scaleX * viewport.width() / contentRect.width();
+        final float ratioY = scaleY * viewport.height() / contentRect.height();
+        final float dx = rawOriginX - contentRect.left * ratioX + (viewport.left - originX) * scaleX;
+        final float dy = rawOriginY - contentRect.bottom * ratioY - (viewport.bottom - originY) * scaleY;
+        out.setScale(ratioX, ratioY);
+        out.postTranslate(dx, dy);
     }
 
     /**
      * Translates viewport distance int pixel distance for X coordinates.
      */
     public float computeRawDistanceX(float distance) {
-        return distance * (contentRectMinusAllMargins.width() / currentViewport.width());
+        return distance * scaleX;
     }
 
     /**
      * Translates viewport distance int pixel distance for X coordinates.
      */
     public float computeRawDistanceY(float distance) {
-        return distance * (contentRectMinusAllMargins.height() / currentViewport.height());
+        return distance * scaleY;
     }
 
     /**
@@ -280,6 +367,7 @@ public class ChartComputator {
     public void setMaxViewport(float left, float top, float right, float bottom) {
         this.maxViewport.set(left, top, right, bottom);
         computeMinimumWidthAndHeight();
+        computeTransformation();
     }
 
     /**
@@ -295,6 +383,27 @@ public class ChartComputator {
         setCurrentViewport(visibleViewport);
     }
 
+    /**
+     * Sets current viewport without constraining it to maximum viewport and without notifying viewport change
+     * listener. Used to render parts of chart that are not visible, i.e. cache tiles, caller has to restore previous
+     * viewport with {@link #restoreCurrentViewport(Viewport, int)}.
+     */
+    public void setCurrentViewportUnconstrained(Viewport viewport) {
+        currentViewport.set(viewport);
+        computeTransformation();
+    }
+
+    /**
+     * Restores viewport changed by {@link #setCurrentViewportUnconstrained(Viewport)} together with transformation
+     * version it had, so raw coordinates cached by renderers for that viewport stay valid. Viewport and version have to
+     * be read from this computator right before viewport was changed.
+     */
+    public void restoreCurrentViewport(Viewport viewport, int transformationVersion) {
+        currentViewport.set(viewport);
+        computeTransformation();
+        this.transformationVersion = transformationVersion;
+    }
+
     public float getMinimumViewportWidth() {
         return minViewportWidth;
     }
@@ -341,6 +450,34 @@ public class ChartComputator {
 
     }
 
+    /**
+     * Recalculates cached values to pixels transformation for current viewport and content rect. Should be called
+     * every time viewport or contentRectMinusAllMargins changes.
+     */
+    protected void computeTransformation() {
+        setTransformation(currentViewport);
+    }
+
+    /**
+     * Sets cached values to pixels transformation so that given viewport fills contentRectMinusAllMargins.
+     */
+    protected void setTransformation(Viewport viewport) {
+        originX = viewport.left;
+        originY = viewport.bottom;
+        rawOriginX = contentRectMinusAllMargins.left;
+        rawOriginY = contentRectMinusAllMargins.bottom;
+        scaleX = contentRectMinusAllMargins.width() / viewport.width();
+        scaleY = contentRectMinusAllMargins.height() / viewport.height();
+        transformationVersion = ++lastTransformationVersion;
+    }
+
+    /**
+     * Returns number that changes every time values to pixels transformation changes.
+     */
+    public int getTransformationVersion() {
+        return transformationVersion;
+    }
+
     private void computeMinimumWidthAndHeight() {
         minViewportWidth = this.maxViewport.width() / maxZoom;
         minViewportHeight = this.maxViewport.height() / maxZoom;
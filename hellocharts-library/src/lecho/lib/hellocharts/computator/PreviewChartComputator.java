@@ -8,16 +8,12 @@ import lecho.lib.hellocharts.model.Viewport;
  */
 public class PreviewChartComputator extends ChartComputator {
 
-    public float computeRawX(float valueX) {
-        final float pixelOffset = (valueX - maxViewport.left) * (contentRectMinusAllMargins.width() / maxViewport
-                .width());
-        return contentRectMinusAllMargins.left + pixelOffset;
-    }
-
-    public float computeRawY(float valueY) {
-        final float pixelOffset = (valueY - maxViewport.bottom) * (contentRectMinusAllMargins.height() / maxViewport
-                .height());
-        return contentRectMinusAllMargins.bottom - pixelOffset;
+    /**
+     * Preview chart always shows maximum viewport so transformation doesn't depend on current viewport.
+     */
+    @Override
+    protected void computeTransformation() {
+        setTransformation(maxViewport);
     }
 
     public Viewport getVisibleViewport() {
@@ -48,6 +48,21 @@ public class ChartTouchHandler {
      */
     protected ContainerScrollType containerScrollType;
 
+    /**
+     * True if user is touching chart.
+     */
+    protected boolean isTouchDown;
+
+    /**
+     * True if user scrolled or scaled chart since the last touch down, tap alone doesn't start gesture.
+     */
+    private boolean isViewportGestureStarted;
+
+    /**
+     * True if fling or zoom animation started by user is running.
+     */
+    protected boolean isGestureAnimationRunning;
+
     public ChartTouchHandler(Context context, Chart chart) {
         this.chart = chart;
         this.computator = chart.getChartComputator();
@@ -68,6 +83,7 @@ public class ChartTouchHandler {
      * scroll/zoom was computed and chart needs to be invalidated.
      */
     public boolean computeScroll() {
+        final boolean wasGestureInProgress = isGestureInProgress();
         boolean needInvalidate = false;
         if (isScrollEnabled && chartScroller.computeScrollOffset(computator)) {
             needInvalidate = true;
@@ -75,9 +91,23 @@ public class ChartTouchHandler {
         if (isZoomEnabled && chartZoomer.computeZoom(computator)) {
             needInvalidate = true;
         }
+        isGestureAnimationRunning = needInvalidate;
+        if (wasGestureInProgress && !isGestureInProgress()) {
+            // Redraw chart in full quality after gesture.
+            needInvalidate = true;
+        }
         return needInvalidate;
     }
 
+    /**
+     * Returns true if user is scrolling or scaling chart or fling/zoom animation started by user is still running.
+     * Touch down alone is not a gesture so taps don't make renderers switch to simplified content. Renderers can use it
+     * to draw simplified content while viewport changes, chart is always invalidated when gesture finishes.
+     */
+    public boolean isGestureInProgress() {
+        return (isTouchDown && isViewportGestureStarted) || isGestureAnimationRunning;
+    }
+
     /**
      * Handle chart touch event(gestures, clicks). Return true if gesture was handled and chart needs to be
      * invalidated.
@@ -85,6 +115,14 @@ public class ChartTouchHandler {
     public boolean handleTouchEvent(MotionEvent event) {
         boolean needInvalidate = false;
 
+        final boolean wasGestureInProgress = isGestureInProgress();
+        if (MotionEvent.ACTION_DOWN == event.getAction()) {
+            isTouchDown = true;
+            isViewportGestureStarted = false;
+        } else if (MotionEvent.ACTION_UP == event.getAction() || MotionEvent.ACTION_CANCEL == event.getAction()) {
+            isTouchDown = false;
+        }
+
         // TODO: detectors always return true, use class member needInvalidate instead local variable as workaround.
         // This flag should be computed inside gesture listeners methods to avoid invalidation.
         needInvalidate = gestureDetector.onTouchEvent(event);
@@ -101,6 +139,11 @@ public class ChartTouchHandler {
             needInvalidate = computeTouch(event) || needInvalidate;
         }
 
+        if (wasGestureInProgress && !isGestureInProgress()) {
+            // Redraw chart in full quality after gesture.
+            needInvalidate = true;
+        }
+
         return needInvalidate;
     }
 
@@ -267,6 +310,7 @@ public class ChartTouchHandler {
         @Override
         public boolean onScale(ScaleGestureDetector detector) {
             if (isZoomEnabled) {
+                isViewportGestureStarted = true;
                 float scale = 2.0f - detector.getScaleFactor();
                 if (Float.isInfinite(scale)) {
                     scale = 1;
@@ -307,6 +351,7 @@ public class ChartTouchHandler {
         @Override
         public boolean onScroll(MotionEvent e1, MotionEvent e2, float distanceX, float distanceY) {
             if (isScrollEnabled) {
+                isViewportGestureStarted = true;
                 boolean canScroll = chartScroller
                         .scroll(computator, distanceX, distanceY, scrollResult);
 
@@ -0,0 +1,117 @@
+package lecho.lib.hellocharts.gesture;
+
+import android.content.Context;
+import android.support.v4.view.ViewCompat;
+import android.view.GestureDetector;
+import android.view.MotionEvent;
+
+import lecho.lib.hellocharts.model.CrosshairSelection;
+import lecho.lib.hellocharts.renderer.LineChartRenderer;
+import lecho.lib.hellocharts.view.LineChartView;
+
+/**
+ * Touch handler for LineChart. Works like default ChartTouchHandler and additionally handles crosshair: when crosshair
+ * is enabled long press shows it and following drag of the same pointer moves it, until finger is lifted. Before long
+ * press chart is scrolled, zoomed and values are touched as usual.
+ */
+public class LineChartTouchHandler extends ChartTouchHandler {
+    /**
+     * Reference to LineChartView to notify crosshair listener and invalidate chart after long press.
+     */
+    protected LineChartView lineChart;
+
+    /**
+     * True if crosshair was shown by long press and follows pointer until touch up.
+     */
+    private boolean isCrosshairDragging;
+
+    public LineChartTouchHandler(Context context, LineChartView chart) {
+        super(context, chart);
+        lineChart = chart;
+        gestureDetector = new GestureDetector(context, new LineChartGestureListener());
+    }
+
+    @Override
+    public boolean handleTouchEvent(MotionEvent event) {
+        // Gesture detector doesn't report scroll and fling after long press so default handling doesn't move viewport
+        // while crosshair is dragged, zoom with second pointer still works.
+        boolean needInvalidate = super.handleTouchEvent(event);
+
+        if (isCrosshairDragging) {
+            switch (event.getAction()) {
+                case MotionEvent.ACTION_MOVE:
+                    moveCrosshair(event.getX());
+                    needInvalidate = true;
+                    break;
+                case MotionEvent.ACTION_UP:
+                case MotionEvent.ACTION_CANCEL:
+                    hideCrosshair();
+                    needInvalidate = true;
+                    break;
+            }
+        }
+
+        return needInvalidate;
+    }
+
+    /**
+     * Returns true if crosshair was shown by long press and user is still dragging it.
+     */
+    public boolean isCrosshairDragging() {
+        return isCrosshairDragging;
+    }
+
+    private LineChartRenderer getCrosshairRenderer() {
+        if (renderer instanceof LineChartRenderer && ((LineChartRenderer) renderer).isCrosshairEnabled()) {
+            return (LineChartRenderer) renderer;
+        }
+        return null;
+    }
+
+    private void moveCrosshair(float touchX) {
+        final LineChartRenderer lineRenderer = getCrosshairRenderer();
+        if (null == lineRenderer) {
+            // Crosshair was disabled during drag.
+            isCrosshairDragging = false;
+            return;
+        }
+        final CrosshairSelection selection = lineRenderer.getCrosshairSelection();
+        final boolean wasVisible = selection.isSet();
+        if (lineRenderer.moveCrosshair(touchX)) {
+            lineChart.getOnCrosshairListener().onCrosshairMoved(selection);
+        } else if (wasVisible) {
+            lineChart.getOnCrosshairListener().onCrosshairHidden();
+        }
+    }
+
+    private void hideCrosshair() {
+        isCrosshairDragging = false;
+        final LineChartRenderer lineRenderer = getCrosshairRenderer();
+        if (null != lineRenderer && lineRenderer.getCrosshairSelection().isSet()) {
+            lineRenderer.hideCrosshair();
+            lineChart.getOnCrosshairListener().onCrosshairHidden();
+        }
+    }
+
+    protected class LineChartGestureListener extends ChartGestureListener {
+
+        @Override
+        public void onLongPress(MotionEvent e) {
+            if (null == getCrosshairRenderer()) {
+                return;
+            }
+            isCrosshairDragging = true;
+            if (null != viewParent) {
+                viewParent.requestDisallowInterceptTouchEvent(true);
+            }
+            // Value touched on touch down is replaced by crosshair.
+            if (renderer.isTouched()) {
+                renderer.clearTouch();
+            }
+            moveCrosshair(e.getX());
+            // Long press is detected outside of touch event handling so chart has to be invalidated here.
+            ViewCompat.postInvalidateOnAnimation(lineChart);
+        }
+    }
+
+}
@@ -30,6 +30,16 @@ public class PieChartTouchHandler extends ChartTouchHandler {
 
     private boolean isRotationEnabled = true;
 
+    /**
+     * True if chart was rotated by drag since the last touch down.
+     */
+    private boolean isDragRotating;
+
+    /**
+     * True if fling rotation was running during the last {@link #computeScroll()}.
+     */
+    private boolean isFlingRunning;
+
     public PieChartTouchHandler(Context context, PieChartView chart) {
         super(context, chart);
         pieChart = (PieChartView) chart;
@@ -46,11 +56,23 @@ public class PieChartTouchHandler extends ChartTouchHandler {
         }
         if (scroller.computeScrollOffset()) {
             pieChart.setChartRotation(scroller.getCurrY(), false);
+            isFlingRunning = true;
             // pieChart.setChartRotation() will invalidate view so no need to return true;
+        } else if (isFlingRunning) {
+            isFlingRunning = false;
+            // Redraw chart in full quality after fling.
+            return true;
         }
         return false;
     }
 
+    /**
+     * Returns true if user is rotating chart by drag or fling rotation is running.
+     */
+    public boolean isRotationInProgress() {
+        return (isTouchDown && isDragRotating) || !scroller.isFinished();
+    }
+
     @Override
     public boolean handleTouchEvent(MotionEvent event) {
         boolean needInvalidate = super.handleTouchEvent(event);
@@ -83,6 +105,7 @@ public class PieChartTouchHandler extends ChartTouchHandler {
         public boolean onDown(MotionEvent e) {
             if (isRotationEnabled) {
                 scroller.abortAnimation();
+                isDragRotating = false;
                 return true;
             }
 
@@ -106,6 +129,7 @@ public class PieChartTouchHandler extends ChartTouchHandler {
                         centerY);
                 pieChart.setChartRotation(pieChart.getChartRotation() - (int) scrollTheta / FLING_VELOCITY_DOWNSCALE,
                         false);
+                isDragRotating = true;
                 return true;
             }
 
@@ -0,0 +1,17 @@
+package lecho.lib.hellocharts.listener;
+
+
+import lecho.lib.hellocharts.model.CrosshairSelection;
+
+public class DummyLineChartOnCrosshairListener implements LineChartOnCrosshairListener {
+
+    @Override
+    public void onCrosshairMoved(CrosshairSelection selection) {
+
+    }
+
+    @Override
+    public void onCrosshairHidden() {
+
+    }
+}
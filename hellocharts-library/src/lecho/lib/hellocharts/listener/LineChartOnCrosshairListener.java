@@ -0,0 +1,15 @@
+package lecho.lib.hellocharts.listener;
+
+
+import lecho.lib.hellocharts.model.CrosshairSelection;
+
+public interface LineChartOnCrosshairListener {
+
+    /**
+     * Called for every touch event that moves crosshair, selection is reused between calls.
+     */
+    public void onCrosshairMoved(CrosshairSelection selection);
+
+    public void onCrosshairHidden();
+
+}
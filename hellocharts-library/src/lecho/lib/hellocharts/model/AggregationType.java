@@ -0,0 +1,8 @@
+package lecho.lib.hellocharts.model;
+
+/**
+ * Function used to combine values aggregated into one bar, see {@link ColumnChartData#setAggregated(boolean)}.
+ */
+public enum AggregationType {
+    MIN, MAX, SUM
+}
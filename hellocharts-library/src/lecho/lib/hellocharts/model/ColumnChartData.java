@@ -16,6 +16,8 @@ public class ColumnChartData extends AbstractChartData {
     private float baseValue = DEFAULT_BASE_VALUE;
     private List<Column> columns = new ArrayList<Column>();
     private boolean isStacked = false;
+    private boolean isAggregated = false;
+    private AggregationType aggregationType = AggregationType.MAX;
 
     public ColumnChartData() {
     }
@@ -31,6 +33,8 @@ public class ColumnChartData extends AbstractChartData {
         super(data);
         this.isStacked = data.isStacked;
         this.fillRatio = data.fillRatio;
+        this.isAggregated = data.isAggregated;
+        this.aggregationType = data.aggregationType;
 
         for (Column column : data.columns) {
             this.columns.add(new Column(column));
@@ -97,6 +101,45 @@ public class ColumnChartData extends AbstractChartData {
         return this;
     }
 
+    /**
+     * @see #setAggregated(boolean)
+     */
+    public boolean isAggregated() {
+        return isAggregated;
+    }
+
+    /**
+     * Set true to aggregate columns per pixel when there are more visible columns than horizontal pixels. All columns
+     * that fall into the same pixel are drawn as a single bar with value computed according to
+     * {@link #setAggregationType(AggregationType)}, so drawing cost depends on chart width and not on the number of
+     * columns. For stacked chart every column is represented by sum of its subcolumns. Aggregated bars don't have
+     * labels, touched bar selects column that determined its value.
+     */
+    public ColumnChartData setAggregated(boolean isAggregated) {
+        this.isAggregated = isAggregated;
+        return this;
+    }
+
+    /**
+     * @see #setAggregationType(AggregationType)
+     */
+    public AggregationType getAggregationType() {
+        return aggregationType;
+    }
+
+    /**
+     * Set how values of columns aggregated into one bar are combined, default is {@link AggregationType#MAX}. Note
+     * that maximum viewport is calculated from not aggregated values so bars aggregated with
+     * {@link AggregationType#SUM} can be higher than viewport.
+     */
+    public ColumnChartData setAggregationType(AggregationType aggregationType) {
+        if (null == aggregationType) {
+            throw new IllegalArgumentException("Aggregation type can't be null");
+        }
+        this.aggregationType = aggregationType;
+        return this;
+    }
+
     public float getFillRatio() {
         return fillRatio;
     }
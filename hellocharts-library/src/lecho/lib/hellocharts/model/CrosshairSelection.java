@@ -0,0 +1,89 @@
+package lecho.lib.hellocharts.model;
+
+/**
+ * Values of all lines at X position of crosshair, see
+ * {@link lecho.lib.hellocharts.renderer.LineChartRenderer#setCrosshairEnabled(boolean)}. The same instance is reused
+ * for every touch event so listeners should copy values they want to keep.
+ */
+public class CrosshairSelection {
+    private static final int NO_VALUE = -1;
+    private float x;
+    private int linesCount;
+    private int[] valueIndexes = new int[0];
+    private float[] valuesX = new float[0];
+    private float[] valuesY = new float[0];
+
+    /**
+     * Sets crosshair X position and clears values of all lines.
+     */
+    public void reset(float x, int linesCount) {
+        this.x = x;
+        this.linesCount = linesCount;
+        if (valueIndexes.length < linesCount) {
+            valueIndexes = new int[linesCount];
+            valuesX = new float[linesCount];
+            valuesY = new float[linesCount];
+        }
+        for (int i = 0; i < linesCount; ++i) {
+            valueIndexes[i] = NO_VALUE;
+        }
+    }
+
+    public void set(int lineIndex, int valueIndex, float valueX, float valueY) {
+        valueIndexes[lineIndex] = valueIndex;
+        valuesX[lineIndex] = valueX;
+        valuesY[lineIndex] = valueY;
+    }
+
+    public void clear() {
+        reset(0, 0);
+    }
+
+    /**
+     * Returns true if crosshair is visible.
+     */
+    public boolean isSet() {
+        return linesCount > 0;
+    }
+
+    /**
+     * Returns X value of crosshair position.
+     */
+    public float getX() {
+        return x;
+    }
+
+    public int getLinesCount() {
+        return linesCount;
+    }
+
+    /**
+     * Returns false if line has no value at crosshair position, i.e. line is empty or, for interpolated crosshair,
+     * crosshair is outside of line X range.
+     */
+    public boolean hasValue(int lineIndex) {
+        return valueIndexes[lineIndex] != NO_VALUE;
+    }
+
+    /**
+     * Returns index of line value nearest to crosshair position.
+     */
+    public int getValueIndex(int lineIndex) {
+        return valueIndexes[lineIndex];
+    }
+
+    /**
+     * Returns X of line value at crosshair position, for interpolated crosshair that's crosshair X.
+     */
+    public float getValueX(int lineIndex) {
+        return valuesX[lineIndex];
+    }
+
+    /**
+     * Returns Y of line value at crosshair position, for interpolated crosshair it's interpolated between the two
+     * values around crosshair X.
+     */
+    public float getValueY(int lineIndex) {
+        return valuesY[lineIndex];
+    }
+}
@@ -0,0 +1,478 @@
+package lecho.lib.hellocharts.model;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import lecho.lib.hellocharts.util.RangeMinMaxIndex;
+import lecho.lib.hellocharts.view.Chart;
+
+/**
+ * PointSeries that keeps values in packed float arrays instead of one {@link PointValue} object per value. Use it for
+ * lines with many values to reduce memory usage and GC pressure. Animation targets are kept in separate arrays that
+ * are allocated only when animation is pending, see {@link #setTarget(int, float, float)}.
+ * <p/>
+ * Range min/max indexes are built on first range query and then updated when values are added or set, other changes
+ * (insertions, removals, animations) cause rebuild on next query.
+ */
+public class FloatPointSeries implements RangeQueryPointSeries, VersionedPointSeries {
+    private static final int DEFAULT_CAPACITY = 16;
+    private int size;
+    private float[] xValues;
+    private float[] yValues;
+    /**
+     * Animation arrays, null if there is no pending animation.
+     */
+    private float[] originXValues;
+    private float[] originYValues;
+    private float[] diffXValues;
+    private float[] diffYValues;
+    /**
+     * Labels, null if no value has label.
+     */
+    private char[][] labels;
+    /**
+     * Range min/max indexes, valid only if isIndexValid is true. Values changed in a way that requires rebuild only
+     * invalidate them, index arrays are reused by the next rebuild so animation frames don't allocate new ones.
+     */
+    private final RangeMinMaxIndex xIndex = new RangeMinMaxIndex();
+    private final RangeMinMaxIndex yIndex = new RangeMinMaxIndex();
+    private boolean isIndexValid;
+    /**
+     * Incremented by every modification of values, see {@link #getVersion()}.
+     */
+    private int version;
+    private List<PointValue> listView;
+
+    public FloatPointSeries() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public FloatPointSeries(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + initialCapacity);
+        }
+        xValues = new float[initialCapacity];
+        yValues = new float[initialCapacity];
+    }
+
+    /**
+     * Creates series with values copied from given arrays, both arrays should have the same length.
+     */
+    public FloatPointSeries(float[] xValues, float[] yValues) {
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException("X and Y arrays have different lengths: " + xValues.length + ", "
+                    + yValues.length);
+        }
+        this.size = xValues.length;
+        this.xValues = new float[size];
+        this.yValues = new float[size];
+        System.arraycopy(xValues, 0, this.xValues, 0, size);
+        System.arraycopy(yValues, 0, this.yValues, 0, size);
+    }
+
+    public FloatPointSeries(FloatPointSeries series) {
+        this(series.size);
+        for (int i = 0; i < series.size; ++i) {
+            add(series.xValues[i], series.yValues[i]);
+            if (null != series.labels && null != series.labels[i]) {
+                setLabel(i, series.labels[i]);
+            }
+        }
+    }
+
+    /**
+     * Creates series that uses given arrays without copying them.
+     */
+    static FloatPointSeries wrap(float[] xValues, float[] yValues) {
+        final FloatPointSeries series = new FloatPointSeries(0);
+        series.xValues = xValues;
+        series.yValues = yValues;
+        series.size = xValues.length;
+        return series;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public float getX(int index) {
+        checkIndex(index);
+        return xValues[index];
+    }
+
+    @Override
+    public float getY(int index) {
+        checkIndex(index);
+        return yValues[index];
+    }
+
+    @Override
+    public char[] getLabel(int index) {
+        checkIndex(index);
+        if (null == labels) {
+            return null;
+        }
+        return labels[index];
+    }
+
+    @Override
+    public PointValue getValue(int index, PointValue out) {
+        checkIndex(index);
+        out.set(xValues[index], yValues[index]);
+        out.setLabelAsChars(null == labels ? null : labels[index]);
+        return out;
+    }
+
+    /**
+     * Adds value at the end of this series.
+     */
+    public FloatPointSeries add(float x, float y) {
+        ensureCapacity(size + 1);
+        xValues[size] = x;
+        yValues[size] = y;
+        if (null != originXValues) {
+            originXValues[size] = x;
+            originYValues[size] = y;
+            diffXValues[size] = 0;
+            diffYValues[size] = 0;
+        }
+        if (null != labels) {
+            labels[size] = null;
+        }
+        ++size;
+        ++version;
+        if (isIndexValid) {
+            xIndex.add(xValues);
+            yIndex.add(yValues);
+        }
+        return this;
+    }
+
+    /**
+     * Sets value at given index, any pending animation target for that value is canceled.
+     */
+    public FloatPointSeries set(int index, float x, float y) {
+        checkIndex(index);
+        xValues[index] = x;
+        yValues[index] = y;
+        if (null != originXValues) {
+            originXValues[index] = x;
+            originYValues[index] = y;
+            diffXValues[index] = 0;
+            diffYValues[index] = 0;
+        }
+        ++version;
+        if (isIndexValid) {
+            xIndex.set(xValues, index);
+            yIndex.set(yValues, index);
+        }
+        return this;
+    }
+
+    /**
+     * Set target values that should be reached when data animation finish then call {@link Chart#startDataAnimation()}
+     */
+    public FloatPointSeries setTarget(int index, float targetX, float targetY) {
+        checkIndex(index);
+        ensureAnimationArrays();
+        originXValues[index] = xValues[index];
+        originYValues[index] = yValues[index];
+        diffXValues[index] = targetX - xValues[index];
+        diffYValues[index] = targetY - yValues[index];
+        return this;
+    }
+
+    public FloatPointSeries setLabel(int index, String label) {
+        return setLabel(index, null == label ? null : label.toCharArray());
+    }
+
+    private FloatPointSeries setLabel(int index, char[] label) {
+        checkIndex(index);
+        if (null == labels) {
+            if (null == label) {
+                return this;
+            }
+            labels = new char[xValues.length][];
+        }
+        labels[index] = label;
+        return this;
+    }
+
+    /**
+     * Returns true if some values have animation targets set and animation has not been finished yet.
+     */
+    public boolean hasPendingAnimation() {
+        return null != originXValues;
+    }
+
+    /**
+     * Removes all values, capacity is not changed.
+     */
+    public void clear() {
+        size = 0;
+        labels = null;
+        releaseAnimationArrays();
+        ++version;
+        invalidateIndexes();
+    }
+
+    /**
+     * Increases capacity of this series if necessary to hold at least minCapacity values.
+     */
+    public void ensureCapacity(int minCapacity) {
+        final int capacity = xValues.length;
+        if (minCapacity <= capacity) {
+            return;
+        }
+        int newCapacity = capacity + (capacity >> 1);
+        if (newCapacity < minCapacity) {
+            newCapacity = minCapacity;
+        }
+        xValues = resize(xValues, newCapacity);
+        yValues = resize(yValues, newCapacity);
+        if (null != originXValues) {
+            originXValues = resize(originXValues, newCapacity);
+            originYValues = resize(originYValues, newCapacity);
+            diffXValues = resize(diffXValues, newCapacity);
+            diffYValues = resize(diffYValues, newCapacity);
+        }
+        if (null != labels) {
+            char[][] newLabels = new char[newCapacity][];
+            System.arraycopy(labels, 0, newLabels, 0, size);
+            labels = newLabels;
+        }
+    }
+
+    @Override
+    public void update(float scale) {
+        if (null == originXValues) {
+            return;
+        }
+        for (int i = 0; i < size; ++i) {
+            xValues[i] = originXValues[i] + diffXValues[i] * scale;
+            yValues[i] = originYValues[i] + diffYValues[i] * scale;
+        }
+        ++version;
+        invalidateIndexes();
+    }
+
+    @Override
+    public void finish() {
+        if (null == originXValues) {
+            return;
+        }
+        for (int i = 0; i < size; ++i) {
+            xValues[i] = originXValues[i] + diffXValues[i];
+            yValues[i] = originYValues[i] + diffYValues[i];
+        }
+        releaseAnimationArrays();
+        ++version;
+        invalidateIndexes();
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public float getMinX() {
+        checkNotEmpty();
+        return ensureIndexes().xIndex.getMin(0, size);
+    }
+
+    @Override
+    public float getMaxX() {
+        checkNotEmpty();
+        return ensureIndexes().xIndex.getMax(0, size);
+    }
+
+    @Override
+    public float getMinY() {
+        checkNotEmpty();
+        return ensureIndexes().yIndex.getMin(0, size);
+    }
+
+    @Override
+    public float getMaxY() {
+        checkNotEmpty();
+        return ensureIndexes().yIndex.getMax(0, size);
+    }
+
+    @Override
+    public float getMinY(int fromIndex, int toIndex) {
+        return ensureIndexes().yIndex.getMin(fromIndex, toIndex);
+    }
+
+    @Override
+    public float getMaxY(int fromIndex, int toIndex) {
+        return ensureIndexes().yIndex.getMax(fromIndex, toIndex);
+    }
+
+    /**
+     * Returns list view of this series. Every call to get() creates new PointValue object so don't use it in
+     * performance critical code. Modifications of returned PointValue objects are not written back to this series,
+     * use list set() method or {@link #set(int, float, float)} instead.
+     */
+    @Override
+    public List<PointValue> asList() {
+        if (null == listView) {
+            listView = new PointValueListView();
+        }
+        return listView;
+    }
+
+    @Override
+    public PointSeries copy() {
+        return new FloatPointSeries(this);
+    }
+
+    private void insert(int index, float x, float y, char[] label) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        ensureCapacity(size + 1);
+        final int numMoved = size - index;
+        shift(index, index + 1, numMoved);
+        ++size;
+        xValues[index] = x;
+        yValues[index] = y;
+        if (null != labels) {
+            labels[index] = null;
+        }
+        if (null != originXValues) {
+            originXValues[index] = x;
+            originYValues[index] = y;
+            diffXValues[index] = 0;
+            diffYValues[index] = 0;
+        }
+        setLabel(index, label);
+        ++version;
+        invalidateIndexes();
+    }
+
+    private void remove(int index) {
+        checkIndex(index);
+        shift(index + 1, index, size - index - 1);
+        --size;
+        if (null != labels) {
+            labels[size] = null;
+        }
+        ++version;
+        invalidateIndexes();
+    }
+
+    private void shift(int from, int to, int count) {
+        if (count <= 0) {
+            return;
+        }
+        System.arraycopy(xValues, from, xValues, to, count);
+        System.arraycopy(yValues, from, yValues, to, count);
+        if (null != originXValues) {
+            System.arraycopy(originXValues, from, originXValues, to, count);
+            System.arraycopy(originYValues, from, originYValues, to, count);
+            System.arraycopy(diffXValues, from, diffXValues, to, count);
+            System.arraycopy(diffYValues, from, diffYValues, to, count);
+        }
+        if (null != labels) {
+            System.arraycopy(labels, from, labels, to, count);
+        }
+    }
+
+    private void ensureAnimationArrays() {
+        if (null != originXValues) {
+            return;
+        }
+        final int capacity = xValues.length;
+        originXValues = new float[capacity];
+        originYValues = new float[capacity];
+        diffXValues = new float[capacity];
+        diffYValues = new float[capacity];
+        System.arraycopy(xValues, 0, originXValues, 0, size);
+        System.arraycopy(yValues, 0, originYValues, 0, size);
+    }
+
+    private void releaseAnimationArrays() {
+        originXValues = null;
+        originYValues = null;
+        diffXValues = null;
+        diffYValues = null;
+    }
+
+    private FloatPointSeries ensureIndexes() {
+        if (!isIndexValid) {
+            xIndex.rebuild(xValues, size);
+            yIndex.rebuild(yValues, size);
+            isIndexValid = true;
+        }
+        return this;
+    }
+
+    private void invalidateIndexes() {
+        isIndexValid = false;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("Series is empty");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    private static float[] resize(float[] array, int newCapacity) {
+        float[] newArray = new float[newCapacity];
+        System.arraycopy(array, 0, newArray, 0, array.length);
+        return newArray;
+    }
+
+    /**
+     * List of PointValue objects created on demand from packed arrays.
+     */
+    private class PointValueListView extends AbstractList<PointValue> {
+
+        @Override
+        public PointValue get(int index) {
+            return getValue(index, new PointValue());
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public PointValue set(int index, PointValue value) {
+            final PointValue oldValue = get(index);
+            FloatPointSeries.this.set(index, value.getX(), value.getY());
+            FloatPointSeries.this.setLabel(index, value.getLabelAsChars());
+            return oldValue;
+        }
+
+        @Override
+        public void add(int index, PointValue value) {
+            insert(index, value.getX(), value.getY(), value.getLabelAsChars());
+            ++modCount;
+        }
+
+        @Override
+        public PointValue remove(int index) {
+            final PointValue oldValue = get(index);
+            FloatPointSeries.this.remove(index);
+            ++modCount;
+            return oldValue;
+        }
+
+        @Override
+        public void clear() {
+            FloatPointSeries.this.clear();
+            ++modCount;
+        }
+    }
+}
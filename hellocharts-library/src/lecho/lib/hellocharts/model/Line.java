@@ -2,7 +2,6 @@ package lecho.lib.hellocharts.model;
 
 import android.graphics.PathEffect;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import lecho.lib.hellocharts.formatter.LineChartValueFormatter;
@@ -35,10 +34,13 @@ public class Line {
     private boolean isCubic = false;
     private boolean isSquare = false;
     private boolean isFilled = false;
+    private boolean isSortedByX = false;
+    private boolean isAggregated = false;
+    private boolean hasLevelOfDetail = false;
     private ValueShape shape = ValueShape.CIRCLE;
     private PathEffect pathEffect;
     private LineChartValueFormatter formatter = new SimpleLineChartValueFormatter();
-    private List<PointValue> values = new ArrayList<PointValue>();
+    private PointSeries series = new ListPointSeries();
 
     public Line() {
 
@@ -48,6 +50,10 @@ public class Line {
         setValues(values);
     }
 
+    public Line(PointSeries series) {
+        setSeries(series);
+    }
+
     public Line(Line line) {
         this.color = line.color;
         this.pointColor = line.pointColor;
@@ -63,37 +69,56 @@ public class Line {
         this.isSquare = line.isSquare;
         this.isCubic = line.isCubic;
         this.isFilled = line.isFilled;
+        this.isSortedByX = line.isSortedByX;
+        this.isAggregated = line.isAggregated;
+        this.hasLevelOfDetail = line.hasLevelOfDetail;
         this.shape = line.shape;
         this.pathEffect = line.pathEffect;
         this.formatter = line.formatter;
 
-        for (PointValue pointValue : line.values) {
-            this.values.add(new PointValue(pointValue));
-        }
+        this.series = line.series.copy();
     }
 
     public void update(float scale) {
-        for (PointValue value : values) {
-            value.update(scale);
-        }
+        series.update(scale);
     }
 
     public void finish() {
-        for (PointValue value : values) {
-            value.finish();
-        }
+        series.finish();
     }
 
+    /**
+     * Returns values of this line as list. If line uses series other than {@link ListPointSeries} returned list is
+     * only a view of that series, see {@link PointSeries#asList()}. Returned values can be modified in place, calling
+     * {@link android.view.View#invalidate()} on chart is enough to draw them, see
+     * {@link #setHasLevelOfDetail(boolean)} for exception.
+     */
     public List<PointValue> getValues() {
-        return this.values;
+        return series.asList();
     }
 
     public void setValues(List<PointValue> values) {
-        if (null == values) {
-            this.values = new ArrayList<PointValue>();
+        this.series = new ListPointSeries(values);
+    }
+
+    /**
+     * @see #setSeries(PointSeries)
+     */
+    public PointSeries getSeries() {
+        return series;
+    }
+
+    /**
+     * Set series that holds values of this line, use {@link FloatPointSeries} for lines with many values to avoid
+     * creating PointValue object for every value.
+     */
+    public Line setSeries(PointSeries series) {
+        if (null == series) {
+            this.series = new ListPointSeries();
         } else {
-            this.values = values;
+            this.series = series;
         }
+        return this;
     }
 
     public int getColor() {
@@ -261,6 +286,64 @@ public class Line {
         return this;
     }
 
+    /**
+     * @see #setSortedByX(boolean)
+     */
+    public boolean isSortedByX() {
+        return isSortedByX;
+    }
+
+    /**
+     * Set true if values of this line are sorted by X in ascending order. For such lines renderer finds values within
+     * current viewport using binary search and skips all other values, that makes drawing of zoomed lines much faster.
+     * Don't set it for lines with unsorted values, some of them will not be drawn.
+     */
+    public Line setSortedByX(boolean isSortedByX) {
+        this.isSortedByX = isSortedByX;
+        return this;
+    }
+
+    /**
+     * @see #setAggregated(boolean)
+     */
+    public boolean isAggregated() {
+        return isAggregated;
+    }
+
+    /**
+     * Set true to aggregate values of this line per pixel column before drawing. For every column only the first, the
+     * last, the minimum and the maximum values are added to the path, so drawing cost depends on chart width and not
+     * on the number of values while the line looks the same. Works for straight, square and filled lines, cubic lines
+     * are always drawn with all values. Number of skipped values can be checked with
+     * {@link lecho.lib.hellocharts.renderer.LineChartRenderer#getSkippedValuesCount()}.
+     */
+    public Line setAggregated(boolean isAggregated) {
+        this.isAggregated = isAggregated;
+        return this;
+    }
+
+    /**
+     * @see #setHasLevelOfDetail(boolean)
+     */
+    public boolean hasLevelOfDetail() {
+        return hasLevelOfDetail;
+    }
+
+    /**
+     * Set true to draw this line using level of detail pyramid, see {@link PointSeriesPyramid}. Pyramid is built when
+     * chart data is set and renderer draws the coarsest level that still has at least one value per pixel for current
+     * viewport. Works only for lines sorted by X {@link #setSortedByX(boolean)}. Points and labels are always drawn
+     * for all values. Pyramid levels are updated when values change during data animation or after
+     * {@link lecho.lib.hellocharts.view.LineChartView#onLineChartDataAppended()}, for {@link RingPointSeries} only
+     * appended and evicted values are processed. Modifications of {@link VersionedPointSeries} are detected too, if
+     * values of other series are modified in place call
+     * {@link lecho.lib.hellocharts.view.AbstractChartView#onChartValuesChanged()}.
+     */
+    public Line setHasLevelOfDetail(boolean hasLevelOfDetail) {
+        this.hasLevelOfDetail = hasLevelOfDetail;
+        return this;
+    }
+
     /**
      * @see #setShape(ValueShape)
      */
@@ -0,0 +1,79 @@
+package lecho.lib.hellocharts.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PointSeries backed by list of {@link PointValue} objects. Default series type for {@link Line}, it keeps old
+ * behavior of {@link Line#getValues()} so values can be added and modified directly in that list. Series doesn't keep
+ * range index, renderer scans all its values to calculate maximum viewport, use {@link FloatPointSeries} or
+ * {@link RingPointSeries} if that's too slow.
+ */
+public class ListPointSeries implements PointSeries {
+    private List<PointValue> values;
+
+    public ListPointSeries() {
+        this(null);
+    }
+
+    public ListPointSeries(List<PointValue> values) {
+        if (null == values) {
+            this.values = new ArrayList<PointValue>();
+        } else {
+            this.values = values;
+        }
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public float getX(int index) {
+        return values.get(index).getX();
+    }
+
+    @Override
+    public float getY(int index) {
+        return values.get(index).getY();
+    }
+
+    @Override
+    public char[] getLabel(int index) {
+        return values.get(index).getLabelAsChars();
+    }
+
+    @Override
+    public PointValue getValue(int index, PointValue out) {
+        return values.get(index);
+    }
+
+    @Override
+    public void update(float scale) {
+        for (PointValue value : values) {
+            value.update(scale);
+        }
+    }
+
+    @Override
+    public void finish() {
+        for (PointValue value : values) {
+            value.finish();
+        }
+    }
+
+    @Override
+    public List<PointValue> asList() {
+        return values;
+    }
+
+    @Override
+    public PointSeries copy() {
+        List<PointValue> valuesCopy = new ArrayList<PointValue>(values.size());
+        for (PointValue pointValue : values) {
+            valuesCopy.add(new PointValue(pointValue));
+        }
+        return new ListPointSeries(valuesCopy);
+    }
+}
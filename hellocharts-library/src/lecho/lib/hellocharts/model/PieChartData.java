@@ -23,6 +23,8 @@ public class PieChartData extends AbstractChartData {
     private int centerText2FontSize = DEFAULT_CENTER_TEXT2_SIZE_SP;
     private float centerCircleScale = DEFAULT_CENTER_CIRCLE_SCALE;
     private int slicesSpacing = DEFAULT_SLICE_SPACING_DP;
+    private float aggregationThreshold = 0;
+    private SliceValue otherSliceValue = new SliceValue();
     private PieChartValueFormatter formatter = new SimplePieChartValueFormatter();
     private boolean hasLabels = false;
     private boolean hasLabelsOnlyForSelected = false;
@@ -71,6 +73,9 @@ public class PieChartData extends AbstractChartData {
         this.centerText2Typeface = data.centerText2Typeface;
         this.centerText2 = data.centerText2;
 
+        this.aggregationThreshold = data.aggregationThreshold;
+        this.otherSliceValue = new SliceValue(data.otherSliceValue);
+
         for (SliceValue sliceValue : data.values) {
             this.values.add(new SliceValue(sliceValue));
         }
@@ -287,6 +292,46 @@ public class PieChartData extends AbstractChartData {
         return this;
     }
 
+    /**
+     * @see #setAggregationThreshold(float)
+     */
+    public float getAggregationThreshold() {
+        return aggregationThreshold;
+    }
+
+    /**
+     * Set angle in degrees below which slices are merged into single "other" slice drawn after all remaining slices,
+     * merged values can be queried from PieChartView. Slices are merged only if there are at least two of them.
+     * Default is 0 which means that slices are never merged.
+     */
+    public PieChartData setAggregationThreshold(float aggregationThreshold) {
+        if (aggregationThreshold < 0) {
+            aggregationThreshold = 0;
+        }
+        this.aggregationThreshold = aggregationThreshold;
+        return this;
+    }
+
+    /**
+     * @see #setOtherSliceValue(SliceValue)
+     */
+    public SliceValue getOtherSliceValue() {
+        return otherSliceValue;
+    }
+
+    /**
+     * Set template of "other" slice, its color and label are copied to value drawn by renderer which holds sum of
+     * merged values. Template itself is not modified.
+     *
+     * @see #setAggregationThreshold(float)
+     */
+    public PieChartData setOtherSliceValue(SliceValue otherSliceValue) {
+        if (null != otherSliceValue) {
+            this.otherSliceValue = otherSliceValue;
+        }
+        return this;
+    }
+
     public PieChartValueFormatter getFormatter() {
         return formatter;
     }
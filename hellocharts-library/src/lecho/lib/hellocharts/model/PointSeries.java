@@ -0,0 +1,59 @@
+package lecho.lib.hellocharts.model;
+
+import java.util.List;
+
+/**
+ * Index based access to values of single line. Renderers iterate series by index so implementations are free to keep
+ * values as list of {@link PointValue} objects or as packed float arrays.
+ */
+public interface PointSeries {
+
+    /**
+     * Returns number of values in this series.
+     */
+    public int size();
+
+    /**
+     * Returns current(animated) X value at given index.
+     */
+    public float getX(int index);
+
+    /**
+     * Returns current(animated) Y value at given index.
+     */
+    public float getY(int index);
+
+    /**
+     * Returns label for value at given index or null if value has no label.
+     */
+    public char[] getLabel(int index);
+
+    /**
+     * Returns value at given index as PointValue. Implementations that keep PointValue objects may return that object
+     * directly, others copy coordinates and label into out parameter and return it. Returned object should not be
+     * modified.
+     */
+    public PointValue getValue(int index, PointValue out);
+
+    /**
+     * Updates values by scale during animation.
+     *
+     * @param scale value from 0 to 1.0
+     */
+    public void update(float scale);
+
+    /**
+     * Inform series that animation finished(values should be update with scale 1.0f).
+     */
+    public void finish();
+
+    /**
+     * Returns list view of this series, used for compatibility with {@link Line#getValues()}.
+     */
+    public List<PointValue> asList();
+
+    /**
+     * Returns deep copy of this series.
+     */
+    public PointSeries copy();
+}
@@ -0,0 +1,352 @@
+package lecho.lib.hellocharts.model;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Multi-resolution level of detail pyramid for {@link PointSeries} with values sorted by X. Level 0 is the source
+ * series, level k is created by successive 2x min/max reductions: every group of 2^(k+1) consecutive source values is
+ * replaced by its minimum and maximum value in their original order, so level k has about size / 2^k values and still
+ * keeps all peaks of the source.
+ * <p/>
+ * Only levels that can be selected for chart with given width and maxZoom are stored, if they don't fit into memory
+ * budget the finest levels are dropped first(source series is used instead). Levels are filled by
+ * {@link #update(int)} which has to be called every time source values may have changed. Groups are aligned to
+ * position of values in {@link RingPointSeries#getAppendedCount() appended stream} so for ring series only groups
+ * with evicted or appended values are recomputed, for other series every change rebuilds all levels.
+ * <p/>
+ * Pyramid is not thread safe, it reads source values while it is updated so it has to be updated on the thread that
+ * modifies the source, {@link lecho.lib.hellocharts.renderer.LineChartRenderer} updates it on UI thread when one of
+ * its levels is drawn. Full rebuild is O(n) so for huge series that are not ring series it's done in the first frame
+ * after every change.
+ */
+public class PointSeriesPyramid {
+    /**
+     * Two floats per value.
+     */
+    private static final int BYTES_PER_VALUE = 8;
+    private final PointSeries source;
+    /**
+     * Source as ring series or null if source is not a ring series.
+     */
+    private final RingPointSeries ringSource;
+    /**
+     * Size for which levels are planned, capacity for ring series because their size grows with every append until
+     * they are full.
+     */
+    private final int plannedSize;
+    private final int minLevelSize;
+    private final float maxZoom;
+    private final long memoryBudget;
+    /**
+     * Stored levels from the finest to the coarsest one and their numbers, level with number k is 2^k times smaller
+     * than source.
+     */
+    private final Level[] levels;
+    private final int[] levelNumbers;
+    private long memoryUsage;
+    private boolean isUpdated;
+    private int dataVersion;
+    /**
+     * Version of source at last update if source is {@link VersionedPointSeries}.
+     */
+    private int sourceVersion;
+    /**
+     * Stream positions of the first source value and of the position after the last one at last update.
+     */
+    private long sourceStart;
+    private long sourceEnd;
+
+    /**
+     * @param source       series with values sorted by X
+     * @param minLevelSize minimal number of values in level, usually width of chart content in pixels
+     * @param maxZoom      maximum zoom of chart, levels that are too fine to be selected even at maximum zoom are not
+     *                     stored
+     * @param memoryBudget maximum number of bytes used by stored levels
+     */
+    public PointSeriesPyramid(PointSeries source, int minLevelSize, float maxZoom, long memoryBudget) {
+        if (minLevelSize <= 0) {
+            throw new IllegalArgumentException("Invalid min level size: " + minLevelSize);
+        }
+        if (maxZoom < 1) {
+            throw new IllegalArgumentException("Invalid max zoom: " + maxZoom);
+        }
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("Invalid memory budget: " + memoryBudget);
+        }
+        this.source = source;
+        this.ringSource = source instanceof RingPointSeries ? (RingPointSeries) source : null;
+        this.plannedSize = null != ringSource ? ringSource.getCapacity() : source.size();
+        this.minLevelSize = minLevelSize;
+        this.maxZoom = maxZoom;
+        this.memoryBudget = memoryBudget;
+
+        // Level k is selected when visible values count / 2^k is at least minLevelSize, at maximum zoom about
+        // plannedSize / maxZoom values are visible so finer levels will never be used.
+        int firstLevel = 1;
+        while (plannedSize / maxZoom / (1L << (firstLevel + 1)) >= minLevelSize) {
+            ++firstLevel;
+        }
+        int lastLevel = firstLevel - 1;
+        while (calculateLevelSize(lastLevel + 1) >= minLevelSize) {
+            ++lastLevel;
+        }
+        // Drop the finest levels until the rest fits into budget.
+        long levelsMemory = 0;
+        for (int level = firstLevel; level <= lastLevel; ++level) {
+            levelsMemory += (long) calculateLevelSize(level) * BYTES_PER_VALUE;
+        }
+        while (firstLevel <= lastLevel && levelsMemory > memoryBudget) {
+            levelsMemory -= (long) calculateLevelSize(firstLevel) * BYTES_PER_VALUE;
+            ++firstLevel;
+        }
+
+        final int levelsCount = Math.max(lastLevel - firstLevel + 1, 0);
+        levels = new Level[levelsCount];
+        levelNumbers = new int[levelsCount];
+        for (int i = 0; i < levelsCount; ++i) {
+            levelNumbers[i] = firstLevel + i;
+            levels[i] = new Level(1 << (levelNumbers[i] + 1), plannedSize);
+            memoryUsage += (long) levels[i].xValues.length * BYTES_PER_VALUE;
+        }
+    }
+
+    /**
+     * Returns the coarsest level that has at least one value per pixel when visibleCount source values are visible in
+     * given number of pixels, returns source series if there is no such level. Levels have to be brought up to date
+     * with {@link #update(int)} before they are drawn.
+     */
+    public PointSeries getLevel(int visibleCount, int pixels) {
+        for (int i = levels.length - 1; i >= 0; --i) {
+            if ((visibleCount >> levelNumbers[i]) >= pixels) {
+                return levels[i];
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Brings levels up to date with source values, does nothing if they have already been updated for given data
+     * version and, if source is {@link VersionedPointSeries}, for current version of source. Levels of {@link RingPointSeries} are updated incrementally, only groups that contain evicted or
+     * appended values are recomputed. Levels of other series are rebuilt because any of their values could have
+     * changed(i.e. during data animation).
+     */
+    public void update(int dataVersion) {
+        final int sourceVersion = source instanceof VersionedPointSeries
+                ? ((VersionedPointSeries) source).getVersion() : 0;
+        if (isUpdated && this.dataVersion == dataVersion && this.sourceVersion == sourceVersion) {
+            return;
+        }
+        final int size = source.size();
+        final long start = null != ringSource ? ringSource.getAppendedCount() - size : 0;
+        final long end = start + size;
+        if (!isUpdated || null == ringSource || start < sourceStart || end < sourceEnd || start > sourceEnd) {
+            // Recompute everything as if all values were appended to empty series.
+            sourceStart = start;
+            sourceEnd = start;
+        }
+        for (int levelIndex = 0; levelIndex < levels.length; ++levelIndex) {
+            final Level level = levels[levelIndex];
+            if (size == 0) {
+                level.setGroups(0, 0);
+                continue;
+            }
+            final long firstGroup = start / level.groupSize;
+            final long lastGroup = (end - 1) / level.groupSize;
+            level.setGroups(firstGroup, (int) (lastGroup - firstGroup + 1));
+            if (start != sourceStart) {
+                // Some values of the first group could have been evicted.
+                updateGroup(levelIndex, firstGroup, start, end);
+            }
+            if (end != sourceEnd) {
+                for (long group = Math.max(sourceEnd / level.groupSize, firstGroup); group <= lastGroup; ++group) {
+                    updateGroup(levelIndex, group, start, end);
+                }
+            }
+        }
+        sourceStart = start;
+        sourceEnd = end;
+        this.dataVersion = dataVersion;
+        this.sourceVersion = sourceVersion;
+        isUpdated = true;
+    }
+
+    /**
+     * Returns true if this pyramid was built for given series and chart parameters and, for series other than
+     * {@link RingPointSeries}, series size has not changed since then. Changes of values are handled by
+     * {@link #update(int)}.
+     */
+    public boolean isBuiltFor(PointSeries series, int minLevelSize, float maxZoom, long memoryBudget) {
+        return source == series && (null != ringSource || plannedSize == series.size())
+                && this.minLevelSize == minLevelSize && this.maxZoom == maxZoom && this.memoryBudget == memoryBudget;
+    }
+
+    public PointSeries getSource() {
+        return source;
+    }
+
+    /**
+     * Returns number of stored levels, source series is not counted.
+     */
+    public int getLevelsCount() {
+        return levels.length;
+    }
+
+    /**
+     * Returns number of bytes used by stored levels.
+     */
+    public long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    private int calculateLevelSize(int level) {
+        final long groupSize = 1L << (level + 1);
+        return (int) (2 * ((plannedSize + groupSize - 1) / groupSize));
+    }
+
+    /**
+     * Recomputes minimum and maximum of given group of level from source values or, for coarser levels, from
+     * minimum/maximum pairs of previous level that cover the same values. Previous level has to be updated first.
+     */
+    private void updateGroup(int levelIndex, long group, long start, long end) {
+        final Level level = levels[levelIndex];
+        final long from = Math.max(group * level.groupSize, start);
+        final long to = Math.min((group + 1) * level.groupSize, end);
+        if (levelIndex == 0) {
+            level.setGroup(group, source, (int) (from - start), (int) (to - start));
+        } else {
+            final Level previousLevel = levels[levelIndex - 1];
+            final long fromGroup = from / previousLevel.groupSize - previousLevel.firstGroup;
+            final long toGroup = (to - 1) / previousLevel.groupSize - previousLevel.firstGroup + 1;
+            level.setGroup(group, previousLevel, (int) fromGroup * 2, (int) toGroup * 2);
+        }
+    }
+
+    /**
+     * Level values kept as minimum/maximum pairs of consecutive groups in ring of group slots, group with stream
+     * number g is stored in slot g % groupsCapacity so groups can be evicted and appended without moving others.
+     */
+    private static class Level implements PointSeries {
+        private final long groupSize;
+        private final int groupsCapacity;
+        private final float[] xValues;
+        private final float[] yValues;
+        private long firstGroup;
+        private int groupsCount;
+        private List<PointValue> listView;
+
+        public Level(long groupSize, int plannedSize) {
+            this.groupSize = groupSize;
+            // Groups of ring series are not aligned to its first value so one group more may be needed.
+            this.groupsCapacity = (int) ((plannedSize + groupSize - 1) / groupSize) + 1;
+            xValues = new float[groupsCapacity * 2];
+            yValues = new float[groupsCapacity * 2];
+        }
+
+        public void setGroups(long firstGroup, int groupsCount) {
+            this.firstGroup = firstGroup;
+            this.groupsCount = groupsCount;
+        }
+
+        /**
+         * Sets values of given group to minimum and maximum of series values in range [fromIndex, toIndex) in their
+         * original order.
+         */
+        public void setGroup(long group, PointSeries series, int fromIndex, int toIndex) {
+            int minIndex = fromIndex;
+            int maxIndex = fromIndex;
+            float minY = series.getY(fromIndex);
+            float maxY = minY;
+            for (int valueIndex = fromIndex + 1; valueIndex < toIndex; ++valueIndex) {
+                final float y = series.getY(valueIndex);
+                if (y < minY) {
+                    minY = y;
+                    minIndex = valueIndex;
+                } else if (y > maxY) {
+                    maxY = y;
+                    maxIndex = valueIndex;
+                }
+            }
+            final int firstIndex = Math.min(minIndex, maxIndex);
+            final int secondIndex = Math.max(minIndex, maxIndex);
+            final int position = (int) (group % groupsCapacity) * 2;
+            xValues[position] = series.getX(firstIndex);
+            yValues[position] = series.getY(firstIndex);
+            xValues[position + 1] = series.getX(secondIndex);
+            yValues[position + 1] = series.getY(secondIndex);
+        }
+
+        @Override
+        public int size() {
+            return groupsCount * 2;
+        }
+
+        @Override
+        public float getX(int index) {
+            return xValues[toPosition(index)];
+        }
+
+        @Override
+        public float getY(int index) {
+            return yValues[toPosition(index)];
+        }
+
+        @Override
+        public char[] getLabel(int index) {
+            return null;
+        }
+
+        @Override
+        public PointValue getValue(int index, PointValue out) {
+            final int position = toPosition(index);
+            out.set(xValues[position], yValues[position]);
+            out.setLabelAsChars(null);
+            return out;
+        }
+
+        @Override
+        public void update(float scale) {
+            // Levels are updated by pyramid.
+        }
+
+        @Override
+        public void finish() {
+            // Levels are updated by pyramid.
+        }
+
+        @Override
+        public List<PointValue> asList() {
+            if (null == listView) {
+                listView = new AbstractList<PointValue>() {
+                    @Override
+                    public PointValue get(int index) {
+                        return getValue(index, new PointValue());
+                    }
+
+                    @Override
+                    public int size() {
+                        return Level.this.size();
+                    }
+                };
+            }
+            return listView;
+        }
+
+        @Override
+        public PointSeries copy() {
+            final FloatPointSeries copy = new FloatPointSeries(size());
+            for (int i = 0; i < size(); ++i) {
+                copy.add(getX(i), getY(i));
+            }
+            return copy;
+        }
+
+        private int toPosition(int index) {
+            int position = (int) (firstGroup % groupsCapacity) * 2 + index;
+            if (position >= xValues.length) {
+                position -= xValues.length;
+            }
+            return position;
+        }
+    }
+}
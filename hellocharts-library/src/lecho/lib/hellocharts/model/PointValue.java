@@ -81,6 +81,11 @@ public class PointValue {
         return label;
     }
 
+    PointValue setLabelAsChars(char[] label) {
+        this.label = label;
+        return this;
+    }
+
     @Deprecated
     public PointValue setLabel(char[] label) {
         this.label = label;
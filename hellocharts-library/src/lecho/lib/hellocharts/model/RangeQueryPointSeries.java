@@ -0,0 +1,38 @@
+package lecho.lib.hellocharts.model;
+
+/**
+ * PointSeries that keeps index of its minimum and maximum values, so renderer can calculate maximum viewport and Y
+ * range of any values range without scanning all values.
+ */
+public interface RangeQueryPointSeries extends PointSeries {
+
+    /**
+     * Returns minimum X value of this series, series must not be empty.
+     */
+    public float getMinX();
+
+    /**
+     * Returns maximum X value of this series, series must not be empty.
+     */
+    public float getMaxX();
+
+    /**
+     * Returns minimum Y value of this series, series must not be empty.
+     */
+    public float getMinY();
+
+    /**
+     * Returns maximum Y value of this series, series must not be empty.
+     */
+    public float getMaxY();
+
+    /**
+     * Returns minimum Y value of values in range [fromIndex, toIndex) or Float.POSITIVE_INFINITY for empty range.
+     */
+    public float getMinY(int fromIndex, int toIndex);
+
+    /**
+     * Returns maximum Y value of values in range [fromIndex, toIndex) or Float.NEGATIVE_INFINITY for empty range.
+     */
+    public float getMaxY(int fromIndex, int toIndex);
+}
@@ -0,0 +1,367 @@
+package lecho.lib.hellocharts.model;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import lecho.lib.hellocharts.util.RangeMinMaxIndex;
+
+/**
+ * Fixed capacity PointSeries for live/streaming data. Values are appended in O(1) time, when series is full the oldest
+ * value is evicted. Minimum and maximum X and Y values of the whole series are updated during append so renderer can
+ * calculate maximum viewport without scanning all values, Y range of any values range is available in O(log n) time.
+ * Series doesn't support labels and data animations.
+ * <p/>
+ * Series is not thread safe, values should be appended on UI thread, after appending call
+ * {@link lecho.lib.hellocharts.view.LineChartView#onLineChartDataAppended()}.
+ */
+public class RingPointSeries implements RangeQueryPointSeries, VersionedPointSeries {
+    private final int capacity;
+    private final float[] xValues;
+    private final float[] yValues;
+    /**
+     * Position of the oldest value.
+     */
+    private int head;
+    private int size;
+    /**
+     * Number of values appended since series was created, see {@link #getAppendedCount()}.
+     */
+    private long appendedCount;
+    /**
+     * Incremented by every append and clear, see {@link #getVersion()}.
+     */
+    private int version;
+    private final ExtremumQueue minXQueue;
+    private final ExtremumQueue maxXQueue;
+    private final ExtremumQueue minYQueue;
+    private final ExtremumQueue maxYQueue;
+    /**
+     * Range min/max index of Y values by ring position.
+     */
+    private final RangeMinMaxIndex yIndex = new RangeMinMaxIndex();
+    private List<PointValue> listView;
+
+    public RingPointSeries(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.capacity = capacity;
+        xValues = new float[capacity];
+        yValues = new float[capacity];
+        minXQueue = new ExtremumQueue(xValues, false);
+        maxXQueue = new ExtremumQueue(xValues, true);
+        minYQueue = new ExtremumQueue(yValues, false);
+        maxYQueue = new ExtremumQueue(yValues, true);
+    }
+
+    /**
+     * Creates copy of given series, ring positions and appended count are the same as in source series so indexes
+     * aligned on appended count, i.e. level of detail groups, are the same for both series.
+     */
+    public RingPointSeries(RingPointSeries series) {
+        this(series.capacity);
+        System.arraycopy(series.xValues, 0, xValues, 0, capacity);
+        System.arraycopy(series.yValues, 0, yValues, 0, capacity);
+        head = series.head;
+        size = series.size;
+        appendedCount = series.appendedCount;
+        for (int i = 0; i < size; ++i) {
+            final int position = toPosition(i);
+            minXQueue.push(position);
+            maxXQueue.push(position);
+            minYQueue.push(position);
+            maxYQueue.push(position);
+        }
+        // Ring is filled from position 0, until it's full positions [0, size) are used.
+        yIndex.rebuild(yValues, size);
+    }
+
+    /**
+     * Appends value at the end of this series, if series is full the oldest value is removed.
+     */
+    public RingPointSeries append(float x, float y) {
+        final int position;
+        if (size == capacity) {
+            position = head;
+            minXQueue.evict(position);
+            maxXQueue.evict(position);
+            minYQueue.evict(position);
+            maxYQueue.evict(position);
+            head = nextPosition(head);
+            xValues[position] = x;
+            yValues[position] = y;
+            yIndex.set(yValues, position);
+        } else {
+            position = toPosition(size);
+            ++size;
+            xValues[position] = x;
+            yValues[position] = y;
+            yIndex.add(yValues);
+        }
+        minXQueue.push(position);
+        maxXQueue.push(position);
+        minYQueue.push(position);
+        maxYQueue.push(position);
+        ++appendedCount;
+        ++version;
+        return this;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+        minXQueue.clear();
+        maxXQueue.clear();
+        minYQueue.clear();
+        maxYQueue.clear();
+        yIndex.rebuild(yValues, 0);
+        ++version;
+    }
+
+    /**
+     * Returns number of values appended since series was created, it's not reset by {@link #clear()}. Value at index i
+     * is the (getAppendedCount() - size() + i)-th appended value so this number can be used to find out which values
+     * were evicted and appended since last check.
+     */
+    public long getAppendedCount() {
+        return appendedCount;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    /**
+     * Returns minimum X value of this series, series must not be empty.
+     */
+    @Override
+    public float getMinX() {
+        return minXQueue.getValue();
+    }
+
+    /**
+     * Returns maximum X value of this series, series must not be empty.
+     */
+    @Override
+    public float getMaxX() {
+        return maxXQueue.getValue();
+    }
+
+    /**
+     * Returns minimum Y value of this series, series must not be empty.
+     */
+    @Override
+    public float getMinY() {
+        return minYQueue.getValue();
+    }
+
+    /**
+     * Returns maximum Y value of this series, series must not be empty.
+     */
+    @Override
+    public float getMaxY() {
+        return maxYQueue.getValue();
+    }
+
+    @Override
+    public float getMinY(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            return Float.POSITIVE_INFINITY;
+        }
+        final int fromPosition = toPosition(fromIndex);
+        final int toPosition = toPosition(toIndex - 1) + 1;
+        if (fromPosition < toPosition) {
+            return yIndex.getMin(fromPosition, toPosition);
+        }
+        // Range wraps around the end of ring.
+        return Math.min(yIndex.getMin(fromPosition, size), yIndex.getMin(0, toPosition));
+    }
+
+    @Override
+    public float getMaxY(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            return Float.NEGATIVE_INFINITY;
+        }
+        final int fromPosition = toPosition(fromIndex);
+        final int toPosition = toPosition(toIndex - 1) + 1;
+        if (fromPosition < toPosition) {
+            return yIndex.getMax(fromPosition, toPosition);
+        }
+        // Range wraps around the end of ring.
+        return Math.max(yIndex.getMax(fromPosition, size), yIndex.getMax(0, toPosition));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public float getX(int index) {
+        checkIndex(index);
+        return xValues[toPosition(index)];
+    }
+
+    @Override
+    public float getY(int index) {
+        checkIndex(index);
+        return yValues[toPosition(index)];
+    }
+
+    @Override
+    public char[] getLabel(int index) {
+        checkIndex(index);
+        return null;
+    }
+
+    @Override
+    public PointValue getValue(int index, PointValue out) {
+        checkIndex(index);
+        final int position = toPosition(index);
+        out.set(xValues[position], yValues[position]);
+        out.setLabelAsChars(null);
+        return out;
+    }
+
+    @Override
+    public void update(float scale) {
+        // Streaming series doesn't support data animations.
+    }
+
+    @Override
+    public void finish() {
+        // Streaming series doesn't support data animations.
+    }
+
+    /**
+     * Returns read only list view of this series. Every call to get() creates new PointValue object so don't use it in
+     * performance critical code.
+     */
+    @Override
+    public List<PointValue> asList() {
+        if (null == listView) {
+            listView = new AbstractList<PointValue>() {
+                @Override
+                public PointValue get(int index) {
+                    return getValue(index, new PointValue());
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return listView;
+    }
+
+    @Override
+    public PointSeries copy() {
+        return new RingPointSeries(this);
+    }
+
+    private int toPosition(int index) {
+        int position = head + index;
+        if (position >= capacity) {
+            position -= capacity;
+        }
+        return position;
+    }
+
+    private int nextPosition(int position) {
+        ++position;
+        if (position == capacity) {
+            position = 0;
+        }
+        return position;
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range: [" + fromIndex + ", " + toIndex + "), size: " + size);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    /**
+     * Monotonic queue of ring positions, used to keep minimum or maximum of sliding window in O(1) amortized time. The
+     * first position in queue always points to extremum of values that are currently in series.
+     */
+    private static class ExtremumQueue {
+        private final float[] values;
+        private final boolean isMax;
+        private final int[] positions;
+        private int first;
+        private int count;
+
+        public ExtremumQueue(float[] values, boolean isMax) {
+            this.values = values;
+            this.isMax = isMax;
+            this.positions = new int[values.length];
+        }
+
+        public void push(int position) {
+            final float value = values[position];
+            while (count > 0) {
+                final float lastValue = values[positions[wrap(first + count - 1)]];
+                if (isMax ? lastValue <= value : lastValue >= value) {
+                    --count;
+                } else {
+                    break;
+                }
+            }
+            positions[wrap(first + count)] = position;
+            ++count;
+        }
+
+        /**
+         * Removes position from the queue if it is the oldest one, must be called before value at that position is
+         * overwritten.
+         */
+        public void evict(int position) {
+            if (count > 0 && positions[first] == position) {
+                first = wrap(first + 1);
+                --count;
+            }
+        }
+
+        public float getValue() {
+            if (count == 0) {
+                throw new IllegalStateException("Series is empty");
+            }
+            return values[positions[first]];
+        }
+
+        public void clear() {
+            first = 0;
+            count = 0;
+        }
+
+        private int wrap(int index) {
+            return index >= positions.length ? index - positions.length : index;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package lecho.lib.hellocharts.model;
+
+/**
+ * PointSeries that counts its modifications, renderers compare that number with the one they saw when they cached
+ * coordinates or paths of series values to find out if cache is still valid. Values of other series, i.e.
+ * {@link ListPointSeries}, can be modified in place without notifying chart, so renderers reuse their caches only
+ * while gesture is in progress.
+ */
+public interface VersionedPointSeries extends PointSeries {
+
+    /**
+     * Returns number that changes every time values of this series are added, removed or changed.
+     */
+    public int getVersion();
+}
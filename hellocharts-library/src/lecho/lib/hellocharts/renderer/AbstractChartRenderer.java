@@ -51,6 +51,12 @@ public abstract class AbstractChartRenderer implements ChartRenderer {
     protected int labelMargin;
     protected boolean isValueLabelBackgroundEnabled;
     protected boolean isValueLabelBackgroundAuto;
+    /**
+     * Incremented every time chart data changes, renderers should also increment it when values change during data
+     * animation. Used together with {@link ChartComputator#getTransformationVersion()} to check if cached raw
+     * coordinates are valid.
+     */
+    protected int dataVersion;
 
     public AbstractChartRenderer(Context context, Chart chart) {
         this.density = context.getResources().getDisplayMetrics().density;
@@ -76,6 +82,32 @@ public abstract class AbstractChartRenderer implements ChartRenderer {
         this.computator = chart.getChartComputator();
     }
 
+    /**
+     * Called when chart view is detached from window, renderer should release resources that can be recreated on
+     * next draw, i.e. offscreen layers. It's not part of {@link ChartRenderer} so renderers that implement that
+     * interface directly don't have to implement it, chart calls it only for subclasses of this class.
+     */
+    public void onChartDetachedFromWindow() {
+    }
+
+    /**
+     * Called when values of current data were modified in place, renderer should drop everything it cached for these
+     * values, i.e. projected coordinates and paths. Unlike {@link #onChartViewportChanged()} viewports are not
+     * recalculated. Chart calls it only for subclasses of this class.
+     */
+    public void onChartValuesChanged() {
+        ++dataVersion;
+    }
+
+    /**
+     * Draw highlight of selected value(i.e. highlighted marker and its label) on top of chart, it is not clipped to
+     * contentRect area. Called after {@link #draw(Canvas)} and {@link #drawUnclipped(Canvas)} as separate pass, so
+     * renderer doesn't have to draw highlight as part of chart content. Chart calls it only for subclasses of this
+     * class, renderers that implement {@link ChartRenderer} directly draw highlight in draw methods.
+     */
+    public void drawHighlight(Canvas canvas) {
+    }
+
     @Override
     public void onChartDataChanged() {
         final ChartData data = chart.getChartData();
@@ -95,6 +127,7 @@ public abstract class AbstractChartRenderer implements ChartRenderer {
 
         // Important - clear selection when data changed.
         selectedValue.clear();
+        ++dataVersion;
 
     }
 
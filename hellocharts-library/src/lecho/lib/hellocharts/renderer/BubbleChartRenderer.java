@@ -7,6 +7,8 @@ import android.graphics.PointF;
 import android.graphics.Rect;
 import android.graphics.RectF;
 
+import java.util.List;
+
 import lecho.lib.hellocharts.computator.ChartComputator;
 import lecho.lib.hellocharts.formatter.BubbleChartValueFormatter;
 import lecho.lib.hellocharts.model.BubbleChartData;
@@ -64,6 +66,18 @@ public class BubbleChartRenderer extends AbstractChartRenderer {
     private boolean hasLabelsOnlyForSelected;
     private BubbleChartValueFormatter valueFormatter;
     private Viewport tempMaximumViewport = new Viewport();
+    /**
+     * Grid of bubbles centers used to cull bubbles outside of content rect and to check touch only for bubbles close
+     * to touched point, rebuilt when data version changes. Radiuses of bubbles in values units(before scaling) are
+     * calculated at the same time so they are not recalculated on every frame.
+     */
+    private GridIndex gridIndex = new GridIndex();
+    private Object indexedValues;
+    private int indexedDataVersion;
+    private float[] valuesX = new float[0];
+    private float[] valuesY = new float[0];
+    private float[] valuesRadius = new float[0];
+    private float maxValueRadius;
 
     public BubbleChartRenderer(Context context, Chart chart, BubbleChartDataProvider dataProvider) {
         super(context, chart);
@@ -100,6 +114,8 @@ public class BubbleChartRenderer extends AbstractChartRenderer {
 
     @Override
     public void onChartViewportChanged() {
+        // Values could have changed because of data animation.
+        ++dataVersion;
         if (isViewportCalculationEnabled) {
             calculateMaxViewport();
             computator.setMaxViewport(tempMaximumViewport);
@@ -109,46 +125,66 @@ public class BubbleChartRenderer extends AbstractChartRenderer {
 
     @Override
     public void draw(Canvas canvas) {
-        drawBubbles(canvas);
-        if (isTouched()) {
-            highlightBubbles(canvas);
+        if (!chart.getTouchHandler().isGestureInProgress()) {
+            // Bubble values can be modified in place, index is rebuilt once per frame and reused by touch checking of
+            // that frame, it's reused by next frames only during gesture.
+            indexedValues = null;
         }
+        prepareGridIndex();
+        drawBubbles(canvas);
     }
 
     @Override
     public void drawUnclipped(Canvas canvas) {
     }
 
+    @Override
+    public void drawHighlight(Canvas canvas) {
+        if (!isTouched()) {
+            return;
+        }
+        // Highlight is clipped the same way as bubbles.
+        final int clipRestoreCount = canvas.save();
+        canvas.clipRect(computator.getContentRectMinusAllMargins());
+        prepareGridIndex();
+        highlightBubbles(canvas);
+        canvas.restoreToCount(clipRestoreCount);
+    }
+
     @Override
     public boolean checkTouch(float touchX, float touchY) {
         selectedValue.clear();
-        final BubbleChartData data = dataProvider.getBubbleChartData();
-        int valueIndex = 0;
-        for (BubbleValue bubbleValue : data.getValues()) {
-            float rawRadius = processBubble(bubbleValue, bubbleCenter);
-
-            if (ValueShape.SQUARE.equals(bubbleValue.getShape())) {
-                if (bubbleRect.contains(touchX, touchY)) {
-                    selectedValue.set(valueIndex, valueIndex, SelectedValueType.NONE);
-                }
-            } else if (ValueShape.CIRCLE.equals(bubbleValue.getShape())) {
-                final float diffX = touchX - bubbleCenter.x;
-                final float diffY = touchY - bubbleCenter.y;
-                final float touchDistance = (float) Math.sqrt((diffX * diffX) + (diffY * diffY));
-
-                if (touchDistance <= rawRadius) {
-                    selectedValue.set(valueIndex, valueIndex, SelectedValueType.NONE);
-                }
-            } else {
-                throw new IllegalArgumentException("Invalid bubble shape: " + bubbleValue.getShape());
+        prepareGridIndex();
+        final List<BubbleValue> values = dataProvider.getBubbleChartData().getValues();
+        final float maxRawRadius = calculateMaxRawRadius();
+        final int candidatesCount = queryGridIndex(touchX - maxRawRadius, touchY - maxRawRadius,
+                touchX + maxRawRadius, touchY + maxRawRadius);
+        // Bubbles are drawn in values order so the topmost of overlapping bubbles is the one with the greatest index.
+        for (int position = candidatesCount - 1; position >= 0; --position) {
+            final int valueIndex = gridIndex.getResult(position);
+            final BubbleValue bubbleValue = values.get(valueIndex);
+            if (isBubbleTouched(valueIndex, bubbleValue, touchX, touchY)) {
+                selectedValue.set(valueIndex, valueIndex, SelectedValueType.NONE);
+                break;
             }
-
-            ++valueIndex;
         }
 
         return isTouched();
     }
 
+    private boolean isBubbleTouched(int valueIndex, BubbleValue bubbleValue, float touchX, float touchY) {
+        final float rawRadius = processBubble(valueIndex, bubbleValue);
+        if (ValueShape.SQUARE.equals(bubbleValue.getShape())) {
+            return bubbleRect.contains(touchX, touchY);
+        } else if (ValueShape.CIRCLE.equals(bubbleValue.getShape())) {
+            final float diffX = touchX - bubbleCenter.x;
+            final float diffY = touchY - bubbleCenter.y;
+            return diffX * diffX + diffY * diffY <= rawRadius * rawRadius;
+        } else {
+            throw new IllegalArgumentException("Invalid bubble shape: " + bubbleValue.getShape());
+        }
+    }
+
     /**
      * Removes empty spaces on sides of chart(left-right for landscape, top-bottom for portrait). *This method should be
      * called after layout had been drawn*. Because most often chart is drawn as rectangle with proportions other than
@@ -182,15 +218,28 @@ public class BubbleChartRenderer extends AbstractChartRenderer {
         computator.setCurrentViewport(currentViewport);
     }
 
+    /**
+     * Draws only bubbles that intersect content rect, candidates are found with grid index and are drawn in values
+     * order.
+     */
     private void drawBubbles(Canvas canvas) {
-        final BubbleChartData data = dataProvider.getBubbleChartData();
-        for (BubbleValue bubbleValue : data.getValues()) {
-            drawBubble(canvas, bubbleValue);
+        final List<BubbleValue> values = dataProvider.getBubbleChartData().getValues();
+        final Rect contentRect = computator.getContentRectMinusAllMargins();
+        final float maxRawRadius = calculateMaxRawRadius();
+        final int candidatesCount = queryGridIndex(contentRect.left - maxRawRadius, contentRect.top - maxRawRadius,
+                contentRect.right + maxRawRadius, contentRect.bottom + maxRawRadius);
+        for (int position = 0; position < candidatesCount; ++position) {
+            final int valueIndex = gridIndex.getResult(position);
+            drawBubble(canvas, contentRect, valueIndex, values.get(valueIndex));
         }
     }
 
-    private void drawBubble(Canvas canvas, BubbleValue bubbleValue) {
-        float rawRadius = processBubble(bubbleValue, bubbleCenter);
+    private void drawBubble(Canvas canvas, Rect contentRect, int valueIndex, BubbleValue bubbleValue) {
+        float rawRadius = processBubble(valueIndex, bubbleValue);
+        if (bubbleCenter.x + rawRadius < contentRect.left || bubbleCenter.x - rawRadius > contentRect.right
+                || bubbleCenter.y + rawRadius < contentRect.top || bubbleCenter.y - rawRadius > contentRect.bottom) {
+            return;
+        }
         // Not touched bubbles are a little smaller than touched to give user touch feedback.
         rawRadius -= touchAdditional;
         bubbleRect.inset(touchAdditional, touchAdditional);
@@ -223,24 +272,73 @@ public class BubbleChartRenderer extends AbstractChartRenderer {
 
     private void highlightBubbles(Canvas canvas) {
         final BubbleChartData data = dataProvider.getBubbleChartData();
-        BubbleValue bubbleValue = data.getValues().get(selectedValue.getFirstIndex());
-        highlightBubble(canvas, bubbleValue);
+        final int valueIndex = selectedValue.getFirstIndex();
+        highlightBubble(canvas, valueIndex, data.getValues().get(valueIndex));
     }
 
-    private void highlightBubble(Canvas canvas, BubbleValue bubbleValue) {
-        float rawRadius = processBubble(bubbleValue, bubbleCenter);
+    private void highlightBubble(Canvas canvas, int valueIndex, BubbleValue bubbleValue) {
+        float rawRadius = processBubble(valueIndex, bubbleValue);
         bubblePaint.setColor(bubbleValue.getDarkenColor());
         drawBubbleShapeAndLabel(canvas, bubbleValue, rawRadius, MODE_HIGHLIGHT);
     }
 
     /**
-     * Calculate bubble radius and center x and y coordinates. Center x and x will be stored in point parameter, radius
-     * will be returned as float value.
+     * Rebuilds grid index and bubbles radiuses if values or data version changed since last build.
+     */
+    private void prepareGridIndex() {
+        final List<BubbleValue> values = dataProvider.getBubbleChartData().getValues();
+        if (indexedValues == values && indexedDataVersion == dataVersion) {
+            return;
+        }
+        final int valuesCount = values.size();
+        if (valuesX.length < valuesCount) {
+            valuesX = new float[valuesCount];
+            valuesY = new float[valuesCount];
+            valuesRadius = new float[valuesCount];
+        }
+        maxValueRadius = 0;
+        int valueIndex = 0;
+        for (BubbleValue bubbleValue : values) {
+            valuesX[valueIndex] = bubbleValue.getX();
+            valuesY[valueIndex] = bubbleValue.getY();
+            valuesRadius[valueIndex] = (float) Math.sqrt(Math.abs(bubbleValue.getZ()) / Math.PI);
+            maxValueRadius = Math.max(maxValueRadius, valuesRadius[valueIndex]);
+            ++valueIndex;
+        }
+        gridIndex.build(valuesX, valuesY, valuesCount);
+        indexedValues = values;
+        indexedDataVersion = dataVersion;
+    }
+
+    /**
+     * Queries grid index for bubbles with centers in given raw rectangle, returns number of found bubbles.
      */
-    private float processBubble(BubbleValue bubbleValue, PointF point) {
+    private int queryGridIndex(float rawLeft, float rawTop, float rawRight, float rawBottom) {
+        return gridIndex.query(computator.computeValueX(rawLeft), computator.computeValueY(rawTop),
+                computator.computeValueX(rawRight), computator.computeValueY(rawBottom));
+    }
+
+    /**
+     * Returns raw radius of the biggest bubble, bubble centers further than that from an area can't intersect it.
+     */
+    private float calculateMaxRawRadius() {
+        final float rawRadius;
+        if (isBubbleScaledByX) {
+            rawRadius = computator.computeRawDistanceX(maxValueRadius * bubbleScaleX);
+        } else {
+            rawRadius = computator.computeRawDistanceY(maxValueRadius * bubbleScaleY);
+        }
+        return Math.max(rawRadius, minRawRadius + touchAdditional);
+    }
+
+    /**
+     * Calculate bubble radius and center x and y coordinates. Center x and y will be stored in bubbleCenter, radius
+     * will be returned as float value. Grid index has to be prepared before calling this method.
+     */
+    private float processBubble(int valueIndex, BubbleValue bubbleValue) {
         final float rawX = computator.computeRawX(bubbleValue.getX());
         final float rawY = computator.computeRawY(bubbleValue.getY());
-        float radius = (float) Math.sqrt(Math.abs(bubbleValue.getZ()) / Math.PI);
+        float radius = valuesRadius[valueIndex];
         float rawRadius;
         if (isBubbleScaledByX) {
             radius *= bubbleScaleX;
@@ -300,11 +398,15 @@ public class BubbleChartRenderer extends AbstractChartRenderer {
 
     }
 
+    /**
+     * Scans all values, bubble values are objects that can be changed in place or animated without notifying
+     * renderer so there is no index that could be kept up to date, see
+     * {@link Chart#setViewportCalculationEnabled(boolean)}.
+     */
     private void calculateMaxViewport() {
         float maxZ = Float.MIN_VALUE;
         tempMaximumViewport.set(Float.MAX_VALUE, Float.MIN_VALUE, Float.MIN_VALUE, Float.MAX_VALUE);
         BubbleChartData data = dataProvider.getBubbleChartData();
-        // TODO: Optimize.
         for (BubbleValue bubbleValue : data.getValues()) {
             if (Math.abs(bubbleValue.getZ()) > maxZ) {
                 maxZ = Math.abs(bubbleValue.getZ());
@@ -0,0 +1,249 @@
+package lecho.lib.hellocharts.renderer;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lecho.lib.hellocharts.computator.ChartComputator;
+import lecho.lib.hellocharts.model.Viewport;
+import lecho.lib.hellocharts.util.BitmapPool;
+import lecho.lib.hellocharts.view.Chart;
+
+/**
+ * Cache of rendered chart content split into grid of tiles, similar to map tiles. Tile size is equal to content rect
+ * size and tile (column, row) covers pixels [column * width, (column + 1) * width) counted from left edge and
+ * [row * height, (row + 1) * height) counted from top edge of maximum viewport at current zoom. Tiles are rendered
+ * lazily by chart renderer with viewport moved to tile position, when chart is scrolled in any direction visible part is
+ * drawn from at most four tile bitmaps. Tiles are keyed by zoom level and content rect so tiles for previous zoom levels
+ * can be reused too, the least recently used tiles are returned to {@link BitmapPool} when cache exceeds its maximum
+ * size.
+ * <p/>
+ * Scroll position is rounded to whole pixels so tiles are always drawn at integer offsets without filtering, content
+ * may be shifted by at most half a pixel relative to axes and values drawn outside of content rect.
+ * <p/>
+ * Only content drawn by {@link ChartRenderer#draw(Canvas)} is cached, {@link #invalidate()} has to be called every
+ * time that content changes(data, animation, renderer settings).
+ */
+public class ChartTileCache {
+    private static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+    private static final int BYTES_PER_PIXEL = 4;
+    /**
+     * Precision of quantized viewport dimensions in tile keys, scrolling changes viewport width and height by float
+     * rounding errors and that should not cause cache misses.
+     */
+    private static final float KEY_QUANTUM = 1 << 20;
+    private final Chart chart;
+    private final Map<TileKey, Bitmap> tiles = new LinkedHashMap<TileKey, Bitmap>(16, 0.75f, true);
+    private final TileKey lookupKey = new TileKey();
+    private long size;
+    private long maxSize = DEFAULT_MAX_SIZE;
+    private Viewport savedViewport = new Viewport();
+    private Viewport tileViewport = new Viewport();
+    private final Canvas tileCanvas = new Canvas();
+
+    public ChartTileCache(Chart chart) {
+        this.chart = chart;
+    }
+
+    /**
+     * Draws visible part of chart from cached tiles rendering missing ones. Returns false if cache can't be used for
+     * current state of chart(i.e. tiles don't fit in cache), in that case caller should draw chart with renderer.
+     */
+    public boolean draw(Canvas canvas) {
+        final ChartComputator computator = chart.getChartComputator();
+        final Rect contentRect = computator.getContentRectMinusAllMargins();
+        final Viewport visibleViewport = computator.getVisibleViewport();
+        final Viewport maxViewport = computator.getMaximumViewport();
+        final int tileWidth = contentRect.width();
+        final int tileHeight = contentRect.height();
+        if (tileWidth <= 0 || tileHeight <= 0 || visibleViewport.width() <= 0 || visibleViewport.height() <= 0
+                || maxViewport.width() <= 0 || maxViewport.height() <= 0) {
+            return false;
+        }
+        // Visible part always spans at most four tiles.
+        if (4L * tileWidth * tileHeight * BYTES_PER_PIXEL > maxSize) {
+            return false;
+        }
+
+        final double scaleX = tileWidth / (double) visibleViewport.width();
+        final double scaleY = tileHeight / (double) visibleViewport.height();
+        // Whole pixels, tiles drawn at fractional offsets would be resampled differently every frame.
+        final long visibleLeft = Math.round((visibleViewport.left - maxViewport.left) * scaleX);
+        final long visibleTop = Math.round((maxViewport.top - visibleViewport.top) * scaleY);
+        final int firstColumn = (int) Math.floor(visibleLeft / (double) tileWidth);
+        final int lastColumn = (int) Math.floor((visibleLeft + tileWidth - 1) / (double) tileWidth);
+        final int firstRow = (int) Math.floor(visibleTop / (double) tileHeight);
+        final int lastRow = (int) Math.floor((visibleTop + tileHeight - 1) / (double) tileHeight);
+        final int visibleTilesCount = (lastColumn - firstColumn + 1) * (lastRow - firstRow + 1);
+        lookupKey.set(computator, maxViewport, visibleViewport);
+        for (int row = firstRow; row <= lastRow; ++row) {
+            for (int column = firstColumn; column <= lastColumn; ++column) {
+                lookupKey.column = column;
+                lookupKey.row = row;
+                Bitmap tile = tiles.get(lookupKey);
+                if (null == tile) {
+                    tile = renderTile(column, row, scaleX, scaleY, tileWidth, tileHeight);
+                    final TileKey key = new TileKey();
+                    key.set(lookupKey);
+                    tiles.put(key, tile);
+                    size += calculateSize(tile);
+                    trim(maxSize, visibleTilesCount);
+                }
+                canvas.drawBitmap(tile, contentRect.left + (long) column * tileWidth - visibleLeft,
+                        contentRect.top + (long) row * tileHeight - visibleTop, null);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all tiles, call it when chart content changes.
+     */
+    public void invalidate() {
+        trim(0, 0);
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Set maximum number of bytes used by tile bitmaps, default is 16MB. Cache is not used if four tiles don't fit in
+     * that size.
+     */
+    public void setMaxSize(long maxSize) {
+        if (maxSize < 0) {
+            maxSize = 0;
+        }
+        this.maxSize = maxSize;
+        trim(maxSize, 0);
+    }
+
+    private Bitmap renderTile(int column, int row, double scaleX, double scaleY, int tileWidth, int tileHeight) {
+        final ChartComputator computator = chart.getChartComputator();
+        final Rect contentRect = computator.getContentRectMinusAllMargins();
+        final Viewport visibleViewport = computator.getVisibleViewport();
+        final Viewport maxViewport = computator.getMaximumViewport();
+
+        final Bitmap tile = BitmapPool.acquire(tileWidth, tileHeight);
+        tileCanvas.setBitmap(tile);
+        final int restoreCount = tileCanvas.save();
+        tileCanvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+        tileCanvas.translate(-contentRect.left, -contentRect.top);
+        tileCanvas.clipRect(contentRect);
+
+        // Restoring saved version keeps renderer caches built for visible viewport valid after tile is rendered.
+        savedViewport.set(visibleViewport);
+        final int savedTransformationVersion = computator.getTransformationVersion();
+        final float tileLeft = (float) (maxViewport.left + (double) column * tileWidth / scaleX);
+        final float tileTop = (float) (maxViewport.top - (double) row * tileHeight / scaleY);
+        tileViewport.set(tileLeft, tileTop, tileLeft + visibleViewport.width(), tileTop - visibleViewport.height());
+        computator.setCurrentViewportUnconstrained(tileViewport);
+        chart.getChartRenderer().draw(tileCanvas);
+        computator.restoreCurrentViewport(savedViewport, savedTransformationVersion);
+
+        tileCanvas.restoreToCount(restoreCount);
+        tileCanvas.setBitmap(null);
+        return tile;
+    }
+
+    /**
+     * Removes the least recently used tiles until cache size is not greater than targetSize, but keeps at least
+     * minTilesCount the most recently used tiles.
+     */
+    private void trim(long targetSize, int minTilesCount) {
+        final Iterator<Bitmap> iterator = tiles.values().iterator();
+        while (size > targetSize && tiles.size() > minTilesCount && iterator.hasNext()) {
+            final Bitmap tile = iterator.next();
+            iterator.remove();
+            size -= calculateSize(tile);
+            BitmapPool.release(tile);
+        }
+    }
+
+    private static long calculateSize(Bitmap bitmap) {
+        return (long) bitmap.getWidth() * bitmap.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    private static int quantize(float value, float range) {
+        return Math.round(value / range * KEY_QUANTUM);
+    }
+
+    private static class TileKey {
+        private float originX;
+        private float originY;
+        private int viewportWidth;
+        private int viewportHeight;
+        private int contentLeft;
+        private int contentTop;
+        private int contentRight;
+        private int contentBottom;
+        private int column;
+        private int row;
+
+        private void set(ChartComputator computator, Viewport maxViewport, Viewport visibleViewport) {
+            final Rect contentRect = computator.getContentRectMinusAllMargins();
+            originX = maxViewport.left;
+            originY = maxViewport.top;
+            viewportWidth = quantize(visibleViewport.width(), maxViewport.width());
+            viewportHeight = quantize(visibleViewport.height(), maxViewport.height());
+            contentLeft = contentRect.left;
+            contentTop = contentRect.top;
+            contentRight = contentRect.right;
+            contentBottom = contentRect.bottom;
+        }
+
+        private void set(TileKey key) {
+            originX = key.originX;
+            originY = key.originY;
+            viewportWidth = key.viewportWidth;
+            viewportHeight = key.viewportHeight;
+            contentLeft = key.contentLeft;
+            contentTop = key.contentTop;
+            contentRight = key.contentRight;
+            contentBottom = key.contentBottom;
+            column = key.column;
+            row = key.row;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            TileKey tileKey = (TileKey) o;
+
+            if (Float.compare(tileKey.originX, originX) != 0) return false;
+            if (Float.compare(tileKey.originY, originY) != 0) return false;
+            if (viewportWidth != tileKey.viewportWidth) return false;
+            if (viewportHeight != tileKey.viewportHeight) return false;
+            if (contentLeft != tileKey.contentLeft) return false;
+            if (contentTop != tileKey.contentTop) return false;
+            if (contentRight != tileKey.contentRight) return false;
+            if (contentBottom != tileKey.contentBottom) return false;
+            if (column != tileKey.column) return false;
+            return row == tileKey.row;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = (originX != +0.0f ? Float.floatToIntBits(originX) : 0);
+            result = 31 * result + (originY != +0.0f ? Float.floatToIntBits(originY) : 0);
+            result = 31 * result + viewportWidth;
+            result = 31 * result + viewportHeight;
+            result = 31 * result + contentLeft;
+            result = 31 * result + contentTop;
+            result = 31 * result + contentRight;
+            result = 31 * result + contentBottom;
+            result = 31 * result + column;
+            result = 31 * result + row;
+            return result;
+        }
+    }
+}
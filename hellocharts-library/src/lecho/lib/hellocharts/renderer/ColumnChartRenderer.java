@@ -7,8 +7,12 @@ import android.graphics.Paint.Cap;
 import android.graphics.PointF;
 import android.graphics.RectF;
 
+import java.util.List;
+
+import lecho.lib.hellocharts.model.AggregationType;
 import lecho.lib.hellocharts.model.Column;
 import lecho.lib.hellocharts.model.ColumnChartData;
+import lecho.lib.hellocharts.model.SelectedValue;
 import lecho.lib.hellocharts.model.SelectedValue.SelectedValueType;
 import lecho.lib.hellocharts.model.SubcolumnValue;
 import lecho.lib.hellocharts.model.Viewport;
@@ -26,6 +30,11 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
     private static final int MODE_DRAW = 0;
     private static final int MODE_CHECK_TOUCH = 1;
     private static final int MODE_HIGHLIGHT = 2;
+    /**
+     * Number of additional columns drawn on each side of visible range, labels of columns just outside of viewport can
+     * still be partially visible.
+     */
+    private static final int VISIBLE_RANGE_PADDING = 1;
 
     private ColumnChartDataProvider dataProvider;
 
@@ -60,6 +69,39 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
 
     private Viewport tempMaximumViewport = new Viewport();
 
+    /**
+     * Range [visibleFromIndex, visibleToIndex) of columns that should be drawn, calculated by
+     * {@link #calculateVisibleRange(float)}.
+     */
+    private int visibleFromIndex;
+    private int visibleToIndex;
+
+    /**
+     * Per column statistics used to aggregate columns, see {@link ColumnChartData#setAggregated(boolean)}. For
+     * stacked chart min and max are equal to column sum. Index of subcolumn is -1 for empty columns.
+     */
+    private float[] columnMinValues = new float[0];
+    private float[] columnMaxValues = new float[0];
+    private float[] columnSums = new float[0];
+    private int[] columnMinValueIndexes = new int[0];
+    private int[] columnMaxValueIndexes = new int[0];
+    private int columnStatsCount;
+
+    /**
+     * Result of {@link #aggregateColumns(int, int)}, aggregated value and indexes of column and subcolumn that
+     * represent it.
+     */
+    private float aggregatedValue;
+    private int aggregatedColumnIndex;
+    private int aggregatedValueIndex;
+
+    /**
+     * Range [selectedFromIndex, selectedToIndex) of columns aggregated into selected bar, -1 if selected value is not
+     * aggregated.
+     */
+    private int selectedFromIndex = -1;
+    private int selectedToIndex = -1;
+
     public ColumnChartRenderer(Context context, Chart chart, ColumnChartDataProvider dataProvider) {
         super(context, chart);
         this.dataProvider = dataProvider;
@@ -78,6 +120,9 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
     @Override
     public void onChartDataChanged() {
         super.onChartDataChanged();
+        // Selected value has been cleared, range of the old data can't stay.
+        selectedFromIndex = -1;
+        selectedToIndex = -1;
         ColumnChartData data = dataProvider.getColumnChartData();
         fillRatio = data.getFillRatio();
         baseValue = data.getBaseValue();
@@ -92,20 +137,24 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
             computator.setMaxViewport(tempMaximumViewport);
             computator.setCurrentViewport(computator.getMaximumViewport());
         }
+        // Values could have changed because of data animation.
+        calculateColumnStats();
+    }
+
+    @Override
+    public void onChartValuesChanged() {
+        super.onChartValuesChanged();
+        calculateColumnStats();
     }
 
     public void draw(Canvas canvas) {
         final ColumnChartData data = dataProvider.getColumnChartData();
-        if (data.isStacked()) {
+        if (isAggregating()) {
+            drawAggregatedColumns(canvas);
+        } else if (data.isStacked()) {
             drawColumnForStacked(canvas);
-            if (isTouched()) {
-                highlightColumnForStacked(canvas);
-            }
         } else {
             drawColumnsForSubcolumns(canvas);
-            if (isTouched()) {
-                highlightColumnsForSubcolumns(canvas);
-            }
         }
     }
 
@@ -114,10 +163,31 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
         // Do nothing, for this kind of chart there is nothing to draw beyond clipped area
     }
 
+    @Override
+    public void drawHighlight(Canvas canvas) {
+        if (!isTouched()) {
+            return;
+        }
+        // Highlight is clipped the same way as columns.
+        final int clipRestoreCount = canvas.save();
+        canvas.clipRect(computator.getContentRectMinusAllMargins());
+        updateSelectedRange();
+        if (selectedToIndex >= 0) {
+            processAggregatedColumns(canvas, selectedFromIndex, selectedToIndex, MODE_HIGHLIGHT);
+        } else if (dataProvider.getColumnChartData().isStacked()) {
+            highlightColumnForStacked(canvas);
+        } else {
+            highlightColumnsForSubcolumns(canvas);
+        }
+        canvas.restoreToCount(clipRestoreCount);
+    }
+
     public boolean checkTouch(float touchX, float touchY) {
-        selectedValue.clear();
+        clearTouch();
         final ColumnChartData data = dataProvider.getColumnChartData();
-        if (data.isStacked()) {
+        if (isAggregating()) {
+            checkTouchForAggregated(touchX, touchY);
+        } else if (data.isStacked()) {
             checkTouchForStacked(touchX, touchY);
         } else {
             checkTouchForSubcolumns(touchX, touchY);
@@ -125,6 +195,60 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
         return isTouched();
     }
 
+    @Override
+    public void clearTouch() {
+        super.clearTouch();
+        selectedFromIndex = -1;
+        selectedToIndex = -1;
+    }
+
+    @Override
+    public void selectValue(SelectedValue selectedValue) {
+        super.selectValue(selectedValue);
+        selectedFromIndex = -1;
+        selectedToIndex = -1;
+    }
+
+    /**
+     * Returns index of the first column represented by selected value or -1 if no value is selected. If selected bar
+     * aggregates many columns they are all in range [getSelectedColumnsFromIndex(), getSelectedColumnsToIndex()),
+     * otherwise range contains only selected column.
+     */
+    public int getSelectedColumnsFromIndex() {
+        updateSelectedRange();
+        if (selectedToIndex >= 0) {
+            return selectedFromIndex;
+        }
+        return isTouched() ? selectedValue.getFirstIndex() : -1;
+    }
+
+    /**
+     * @see #getSelectedColumnsFromIndex()
+     */
+    public int getSelectedColumnsToIndex() {
+        updateSelectedRange();
+        if (selectedToIndex >= 0) {
+            return selectedToIndex;
+        }
+        return isTouched() ? selectedValue.getFirstIndex() + 1 : -1;
+    }
+
+    /**
+     * Clears range of selected aggregated bar if columns are not aggregated anymore(i.e. chart was zoomed in), selected
+     * value already points to the column that was representative of that bar so from now on that column is selected.
+     */
+    private void updateSelectedRange() {
+        if (selectedToIndex >= 0 && (!isAggregating() || selectedToIndex > columnStatsCount)) {
+            selectedFromIndex = -1;
+            selectedToIndex = -1;
+        }
+    }
+
+    /**
+     * Scans all values, column values are objects that can be changed in place or animated without notifying
+     * renderer so there is no index that could be kept up to date, see
+     * {@link Chart#setViewportCalculationEnabled(boolean)}.
+     */
     private void calculateMaxViewport() {
         final ColumnChartData data = dataProvider.getColumnChartData();
         // Column chart always has X values from 0 to numColumns-1, to add some margin on the left and right I added
@@ -174,10 +298,10 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
     private void drawColumnsForSubcolumns(Canvas canvas) {
         final ColumnChartData data = dataProvider.getColumnChartData();
         final float columnWidth = calculateColumnWidth();
-        int columnIndex = 0;
-        for (Column column : data.getColumns()) {
-            processColumnForSubcolumns(canvas, column, columnWidth, columnIndex, MODE_DRAW);
-            ++columnIndex;
+        calculateVisibleRange(columnWidth);
+        final List<Column> columns = data.getColumns();
+        for (int columnIndex = visibleFromIndex; columnIndex < visibleToIndex; ++columnIndex) {
+            processColumnForSubcolumns(canvas, columns.get(columnIndex), columnWidth, columnIndex, MODE_DRAW);
         }
     }
 
@@ -194,11 +318,11 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
         touchedPoint.y = touchY;
         final ColumnChartData data = dataProvider.getColumnChartData();
         final float columnWidth = calculateColumnWidth();
-        int columnIndex = 0;
-        for (Column column : data.getColumns()) {
+        final int columnIndex = calculateTouchedColumnIndex(touchX);
+        if (columnIndex >= 0) {
             // canvas is not needed for checking touch
-            processColumnForSubcolumns(null, column, columnWidth, columnIndex, MODE_CHECK_TOUCH);
-            ++columnIndex;
+            processColumnForSubcolumns(null, data.getColumns().get(columnIndex), columnWidth, columnIndex,
+                    MODE_CHECK_TOUCH);
         }
     }
 
@@ -225,7 +349,7 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
                 break;
             }
             final float rawY = computator.computeRawY(columnValue.getValue());
-            calculateRectToDraw(columnValue, subcolumnRawX, subcolumnRawX + subcolumnWidth, baseRawY, rawY);
+            calculateRectToDraw(columnValue.getValue(), subcolumnRawX, subcolumnRawX + subcolumnWidth, baseRawY, rawY);
             switch (mode) {
                 case MODE_DRAW:
                     drawSubcolumn(canvas, column, columnValue, false);
@@ -246,14 +370,207 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
         }
     }
 
+    /**
+     * Returns true if columns should be aggregated per pixel, that's when aggregation is enabled and there is more
+     * than one column per pixel.
+     */
+    private boolean isAggregating() {
+        final ColumnChartData data = dataProvider.getColumnChartData();
+        final int contentWidth = computator.getContentRectMinusAllMargins().width();
+        return data.isAggregated() && contentWidth > 0 && computator.getVisibleViewport().width() > contentWidth
+                && columnStatsCount == data.getColumns().size();
+    }
+
+    private void calculateColumnStats() {
+        final ColumnChartData data = dataProvider.getColumnChartData();
+        if (!data.isAggregated()) {
+            columnStatsCount = 0;
+            return;
+        }
+        final List<Column> columns = data.getColumns();
+        columnStatsCount = columns.size();
+        if (columnSums.length < columnStatsCount) {
+            columnMinValues = new float[columnStatsCount];
+            columnMaxValues = new float[columnStatsCount];
+            columnSums = new float[columnStatsCount];
+            columnMinValueIndexes = new int[columnStatsCount];
+            columnMaxValueIndexes = new int[columnStatsCount];
+        }
+        final boolean isStacked = data.isStacked();
+        for (int columnIndex = 0; columnIndex < columnStatsCount; ++columnIndex) {
+            float minValue = Float.POSITIVE_INFINITY;
+            float maxValue = Float.NEGATIVE_INFINITY;
+            float sum = 0;
+            int minValueIndex = -1;
+            int maxValueIndex = -1;
+            int valueIndex = 0;
+            for (SubcolumnValue columnValue : columns.get(columnIndex).getValues()) {
+                final float value = columnValue.getValue();
+                if (value < minValue) {
+                    minValue = value;
+                    minValueIndex = valueIndex;
+                }
+                if (value > maxValue) {
+                    maxValue = value;
+                    maxValueIndex = valueIndex;
+                }
+                sum += value;
+                ++valueIndex;
+            }
+            if (isStacked && valueIndex > 0) {
+                minValue = maxValue = sum;
+                minValueIndex = maxValueIndex = 0;
+            }
+            columnMinValues[columnIndex] = minValue;
+            columnMaxValues[columnIndex] = maxValue;
+            columnSums[columnIndex] = sum;
+            columnMinValueIndexes[columnIndex] = minValueIndex;
+            columnMaxValueIndexes[columnIndex] = maxValueIndex;
+        }
+    }
+
+    /**
+     * Draws visible columns aggregated per pixel, columns with raw X within the same pixel are drawn as one bar.
+     */
+    private void drawAggregatedColumns(Canvas canvas) {
+        calculateVisibleRange(calculateColumnWidth());
+        int bucketFromIndex = visibleFromIndex;
+        int bucketPixel = Integer.MIN_VALUE;
+        for (int columnIndex = visibleFromIndex; columnIndex < visibleToIndex; ++columnIndex) {
+            final int pixel = calculateColumnPixel(columnIndex);
+            if (pixel != bucketPixel) {
+                processAggregatedColumns(canvas, bucketFromIndex, columnIndex, MODE_DRAW);
+                bucketFromIndex = columnIndex;
+                bucketPixel = pixel;
+            }
+        }
+        processAggregatedColumns(canvas, bucketFromIndex, visibleToIndex, MODE_DRAW);
+    }
+
+    /**
+     * Finds pixel bucket of column nearest to touched X, columns in bucket are those with raw X within the same pixel.
+     */
+    private void checkTouchForAggregated(float touchX, float touchY) {
+        touchedPoint.x = touchX;
+        touchedPoint.y = touchY;
+        final int columnIndex = calculateTouchedColumnIndex(touchX);
+        if (columnIndex < 0) {
+            return;
+        }
+        final int columnsCount = dataProvider.getColumnChartData().getColumns().size();
+        final int pixel = calculateColumnPixel(columnIndex);
+        int fromIndex = Math.max(0, Math.min((int) Math.ceil(computator.computeValueX(pixel)), columnIndex));
+        int toIndex = Math.max(columnIndex + 1,
+                Math.min((int) Math.ceil(computator.computeValueX(pixel + 1)), columnsCount));
+        // Bucket edges computed with inverse transformation can be off by one because of float rounding.
+        while (fromIndex > 0 && calculateColumnPixel(fromIndex - 1) == pixel) {
+            --fromIndex;
+        }
+        while (fromIndex < columnIndex && calculateColumnPixel(fromIndex) != pixel) {
+            ++fromIndex;
+        }
+        while (toIndex < columnsCount && calculateColumnPixel(toIndex) == pixel) {
+            ++toIndex;
+        }
+        while (toIndex > columnIndex + 1 && calculateColumnPixel(toIndex - 1) != pixel) {
+            --toIndex;
+        }
+        processAggregatedColumns(null, fromIndex, toIndex, MODE_CHECK_TOUCH);
+    }
+
+    /**
+     * Aggregates columns in range [fromIndex, toIndex) and draws, highlights or checks touch for resulting bar. Bar is
+     * one pixel wide and starts at pixel of the first column.
+     */
+    private void processAggregatedColumns(Canvas canvas, int fromIndex, int toIndex, int mode) {
+        if (!aggregateColumns(fromIndex, toIndex)) {
+            return;
+        }
+        final SubcolumnValue columnValue = dataProvider.getColumnChartData().getColumns().get(aggregatedColumnIndex)
+                .getValues().get(aggregatedValueIndex);
+        final float left = calculateColumnPixel(fromIndex);
+        calculateRectToDraw(aggregatedValue, left, left + 1, computator.computeRawY(baseValue),
+                computator.computeRawY(aggregatedValue));
+        switch (mode) {
+            case MODE_DRAW:
+                columnPaint.setColor(columnValue.getColor());
+                canvas.drawRect(drawRect, columnPaint);
+                break;
+            case MODE_HIGHLIGHT:
+                columnPaint.setColor(columnValue.getDarkenColor());
+                canvas.drawRect(drawRect.left - touchAdditionalWidth, drawRect.top,
+                        drawRect.right + touchAdditionalWidth, drawRect.bottom, columnPaint);
+                break;
+            case MODE_CHECK_TOUCH:
+                // One pixel wide bar can't be hit precisely, use the same additional width as highlight.
+                drawRect.left -= touchAdditionalWidth;
+                drawRect.right += touchAdditionalWidth;
+                if (drawRect.contains(touchedPoint.x, touchedPoint.y)) {
+                    selectedValue.set(aggregatedColumnIndex, aggregatedValueIndex, SelectedValueType.COLUMN);
+                    selectedFromIndex = fromIndex;
+                    selectedToIndex = toIndex;
+                }
+                break;
+            default:
+                throw new IllegalStateException("Cannot process aggregated columns in mode: " + mode);
+        }
+    }
+
+    private int calculateColumnPixel(int columnIndex) {
+        return (int) Math.floor(computator.computeRawX(columnIndex));
+    }
+
+    /**
+     * Aggregates values of columns in range [fromIndex, toIndex) and stores result in {@link #aggregatedValue},
+     * {@link #aggregatedColumnIndex} and {@link #aggregatedValueIndex}. Returns false if all columns in range are
+     * empty.
+     */
+    private boolean aggregateColumns(int fromIndex, int toIndex) {
+        final AggregationType aggregationType = dataProvider.getColumnChartData().getAggregationType();
+        aggregatedColumnIndex = -1;
+        for (int columnIndex = fromIndex; columnIndex < toIndex; ++columnIndex) {
+            if (columnMinValueIndexes[columnIndex] < 0) {
+                continue;
+            }
+            final boolean isFirst = aggregatedColumnIndex < 0;
+            switch (aggregationType) {
+                case MIN:
+                    if (isFirst || columnMinValues[columnIndex] < aggregatedValue) {
+                        aggregatedValue = columnMinValues[columnIndex];
+                        aggregatedColumnIndex = columnIndex;
+                        aggregatedValueIndex = columnMinValueIndexes[columnIndex];
+                    }
+                    break;
+                case MAX:
+                    if (isFirst || columnMaxValues[columnIndex] > aggregatedValue) {
+                        aggregatedValue = columnMaxValues[columnIndex];
+                        aggregatedColumnIndex = columnIndex;
+                        aggregatedValueIndex = columnMaxValueIndexes[columnIndex];
+                    }
+                    break;
+                case SUM:
+                    if (isFirst) {
+                        aggregatedValue = 0;
+                        aggregatedColumnIndex = columnIndex;
+                        aggregatedValueIndex = 0;
+                    }
+                    aggregatedValue += columnSums[columnIndex];
+                    break;
+                default:
+                    throw new IllegalStateException("Invalid aggregation type: " + aggregationType);
+            }
+        }
+        return aggregatedColumnIndex >= 0;
+    }
+
     private void drawColumnForStacked(Canvas canvas) {
         final ColumnChartData data = dataProvider.getColumnChartData();
         final float columnWidth = calculateColumnWidth();
         // Columns are indexes from 0 to n, column index is also column X value
-        int columnIndex = 0;
-        for (Column column : data.getColumns()) {
-            processColumnForStacked(canvas, column, columnWidth, columnIndex, MODE_DRAW);
-            ++columnIndex;
+        calculateVisibleRange(columnWidth);
+        final List<Column> columns = data.getColumns();
+        for (int columnIndex = visibleFromIndex; columnIndex < visibleToIndex; ++columnIndex) {
+            processColumnForStacked(canvas, columns.get(columnIndex), columnWidth, columnIndex, MODE_DRAW);
         }
     }
 
@@ -270,11 +587,11 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
         touchedPoint.y = touchY;
         final ColumnChartData data = dataProvider.getColumnChartData();
         final float columnWidth = calculateColumnWidth();
-        int columnIndex = 0;
-        for (Column column : data.getColumns()) {
+        final int columnIndex = calculateTouchedColumnIndex(touchX);
+        if (columnIndex >= 0) {
             // canvas is not needed for checking touch
-            processColumnForStacked(null, column, columnWidth, columnIndex, MODE_CHECK_TOUCH);
-            ++columnIndex;
+            processColumnForStacked(null, data.getColumns().get(columnIndex), columnWidth, columnIndex,
+                    MODE_CHECK_TOUCH);
         }
     }
 
@@ -298,7 +615,7 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
             }
             final float rawBaseY = computator.computeRawY(subcolumnBaseValue);
             final float rawY = computator.computeRawY(subcolumnBaseValue + columnValue.getValue());
-            calculateRectToDraw(columnValue, rawX - halfColumnWidth, rawX + halfColumnWidth, rawBaseY, rawY);
+            calculateRectToDraw(columnValue.getValue(), rawX - halfColumnWidth, rawX + halfColumnWidth, rawBaseY, rawY);
             switch (mode) {
                 case MODE_DRAW:
                     drawSubcolumn(canvas, column, columnValue, true);
@@ -353,11 +670,45 @@ public class ColumnChartRenderer extends AbstractChartRenderer {
         return columnWidth;
     }
 
-    private void calculateRectToDraw(SubcolumnValue columnValue, float left, float right, float rawBaseY, float rawY) {
+    /**
+     * Calculates range of columns intersecting visible viewport and stores it in {@link #visibleFromIndex} and
+     * {@link #visibleToIndex}. Column X value is its index so range is computed directly from viewport, column i spans
+     * X values [i - halfWidth, i + halfWidth] where halfWidth is half of column width in values.
+     */
+    private void calculateVisibleRange(float columnWidth) {
+        final int columnsCount = dataProvider.getColumnChartData().getColumns().size();
+        final Viewport visibleViewport = computator.getVisibleViewport();
+        final int contentWidth = computator.getContentRectMinusAllMargins().width();
+        if (contentWidth <= 0) {
+            visibleFromIndex = 0;
+            visibleToIndex = columnsCount;
+            return;
+        }
+        final float halfWidth = columnWidth / 2 * visibleViewport.width() / contentWidth;
+        final int fromIndex = (int) Math.ceil(visibleViewport.left - halfWidth) - VISIBLE_RANGE_PADDING;
+        final int toIndex = (int) Math.floor(visibleViewport.right + halfWidth) + 1 + VISIBLE_RANGE_PADDING;
+        visibleFromIndex = Math.max(0, Math.min(fromIndex, columnsCount));
+        visibleToIndex = Math.max(visibleFromIndex, Math.min(toIndex, columnsCount));
+    }
+
+    /**
+     * Returns index of column nearest to touched X or -1 if there is no such column, only that column can contain
+     * touch point.
+     */
+    private int calculateTouchedColumnIndex(float touchX) {
+        final int columnsCount = dataProvider.getColumnChartData().getColumns().size();
+        if (columnsCount == 0 || computator.getContentRectMinusAllMargins().isEmpty()) {
+            return -1;
+        }
+        final int columnIndex = Math.round(computator.computeValueX(touchX));
+        return Math.max(0, Math.min(columnIndex, columnsCount - 1));
+    }
+
+    private void calculateRectToDraw(float value, float left, float right, float rawBaseY, float rawY) {
         // Calculate rect that will be drawn as column, subcolumn or label background.
         drawRect.left = left;
         drawRect.right = right;
-        if (columnValue.getValue() >= baseValue) {
+        if (value >= baseValue) {
             drawRect.top = rawY;
             drawRect.bottom = rawBaseY - subcolumnSpacing;
         } else {
@@ -26,6 +26,15 @@ public class ComboChartRenderer extends AbstractChartRenderer {
         }
     }
 
+    @Override
+    public void onChartDetachedFromWindow() {
+        for (ChartRenderer renderer : renderers) {
+            if (renderer instanceof AbstractChartRenderer) {
+                ((AbstractChartRenderer) renderer).onChartDetachedFromWindow();
+            }
+        }
+    }
+
     @Override
     public void onChartDataChanged() {
         super.onChartDataChanged();
@@ -35,6 +44,16 @@ public class ComboChartRenderer extends AbstractChartRenderer {
         onChartViewportChanged();
     }
 
+    @Override
+    public void onChartValuesChanged() {
+        super.onChartValuesChanged();
+        for (ChartRenderer renderer : renderers) {
+            if (renderer instanceof AbstractChartRenderer) {
+                ((AbstractChartRenderer) renderer).onChartValuesChanged();
+            }
+        }
+    }
+
     @Override
     public void onChartViewportChanged() {
         if (isViewportCalculationEnabled) {
@@ -68,6 +87,15 @@ public class ComboChartRenderer extends AbstractChartRenderer {
         }
     }
 
+    @Override
+    public void drawHighlight(Canvas canvas) {
+        for (ChartRenderer renderer : renderers) {
+            if (renderer instanceof AbstractChartRenderer) {
+                ((AbstractChartRenderer) renderer).drawHighlight(canvas);
+            }
+        }
+    }
+
     public boolean checkTouch(float touchX, float touchY) {
         selectedValue.clear();
         int rendererIndex = renderers.size() - 1;
@@ -0,0 +1,87 @@
+package lecho.lib.hellocharts.renderer;
+
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Rect;
+
+import lecho.lib.hellocharts.computator.ChartComputator;
+import lecho.lib.hellocharts.model.Viewport;
+import lecho.lib.hellocharts.view.Chart;
+
+/**
+ * Snapshot of rendered chart content used while user scrolls or zooms chart. Content(clipped and unclipped) is
+ * rendered once into offscreen layer when scroll or zoom actually starts(taps don't take snapshot), then every frame
+ * of gesture only draws that layer transformed by matrix from snapshot viewport to current viewport, so frame cost
+ * doesn't depend on data size. Parts of chart that were not visible when snapshot was taken stay empty until gesture finishes and chart is rendered in
+ * full quality again.
+ */
+public class GestureSnapshot {
+    private final Chart chart;
+    private OffscreenLayer layer = new OffscreenLayer();
+    private Viewport viewport = new Viewport();
+    private Rect contentRect = new Rect();
+    private Matrix matrix = new Matrix();
+    private Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private boolean isValid;
+
+    public GestureSnapshot(Chart chart) {
+        this.chart = chart;
+    }
+
+    /**
+     * Draws chart content from snapshot transformed to current viewport, takes snapshot first if there is no valid
+     * one.
+     */
+    public void draw(Canvas canvas) {
+        final ChartComputator computator = chart.getChartComputator();
+        if (!isValid && !capture()) {
+            // Layer can't be allocated, i.e. in layout editor.
+            final int clipRestoreCount = canvas.save();
+            canvas.clipRect(computator.getContentRectMinusAllMargins());
+            chart.getChartRenderer().draw(canvas);
+            canvas.restoreToCount(clipRestoreCount);
+            chart.getChartRenderer().drawUnclipped(canvas);
+            return;
+        }
+        computator.getTransformationMatrix(viewport, contentRect, matrix);
+        final int clipRestoreCount = canvas.save();
+        canvas.clipRect(computator.getContentRectMinusAxesMargins());
+        canvas.concat(matrix);
+        layer.end(canvas, paint);
+        canvas.restoreToCount(clipRestoreCount);
+    }
+
+    /**
+     * Marks snapshot as outdated, next {@link #draw(Canvas)} will take new one. Call it when chart content changes
+     * during gesture.
+     */
+    public void invalidate() {
+        isValid = false;
+    }
+
+    /**
+     * Invalidates snapshot and returns its bitmap to pool.
+     */
+    public void release() {
+        isValid = false;
+        layer.release();
+    }
+
+    private boolean capture() {
+        final ChartComputator computator = chart.getChartComputator();
+        final Canvas layerCanvas = layer.begin(computator.getChartWidth(), computator.getChartHeight());
+        if (null == layerCanvas) {
+            return false;
+        }
+        final int clipRestoreCount = layerCanvas.save();
+        layerCanvas.clipRect(computator.getContentRectMinusAllMargins());
+        chart.getChartRenderer().draw(layerCanvas);
+        layerCanvas.restoreToCount(clipRestoreCount);
+        chart.getChartRenderer().drawUnclipped(layerCanvas);
+        viewport.set(computator.getVisibleViewport());
+        contentRect.set(computator.getContentRectMinusAllMargins());
+        isValid = true;
+        return true;
+    }
+}
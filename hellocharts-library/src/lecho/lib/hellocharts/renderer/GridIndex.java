@@ -0,0 +1,133 @@
+package lecho.lib.hellocharts.renderer;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid of points in chart values space, used to find values close to visible area or touched point without
+ * checking all of them. Grid covers bounding box of points and has the same number of rows and columns chosen so
+ * there are about {@link #VALUES_PER_CELL} points per cell. Indexes of points are stored cell after cell in
+ * increasing order. Grid has to be rebuilt with {@link #build(float[], float[], int)} every time points change.
+ */
+public class GridIndex {
+    private static final int VALUES_PER_CELL = 8;
+    private static final int MAX_CELLS_PER_SIDE = 512;
+    private int valuesCount;
+    private float left;
+    private float top;
+    private float right;
+    private float bottom;
+    private float cellWidth;
+    private float cellHeight;
+    private int cellsPerSide;
+    /**
+     * Indexes of points in cell c are cellValueIndexes[cellStarts[c]] to cellValueIndexes[cellStarts[c + 1] - 1].
+     */
+    private int[] cellStarts = new int[1];
+    private int[] cellValueIndexes = new int[0];
+    private int[] valueCells = new int[0];
+    private int[] result = new int[0];
+
+    /**
+     * Rebuilds grid for count points with given coordinates, it's done by counting sort of points by cell so it takes
+     * linear time.
+     */
+    public void build(float[] valuesX, float[] valuesY, int count) {
+        valuesCount = count;
+        left = Float.MAX_VALUE;
+        right = -Float.MAX_VALUE;
+        bottom = Float.MAX_VALUE;
+        top = -Float.MAX_VALUE;
+        for (int i = 0; i < count; ++i) {
+            left = Math.min(left, valuesX[i]);
+            right = Math.max(right, valuesX[i]);
+            bottom = Math.min(bottom, valuesY[i]);
+            top = Math.max(top, valuesY[i]);
+        }
+        cellsPerSide = (int) Math.ceil(Math.sqrt((double) count / VALUES_PER_CELL));
+        cellsPerSide = Math.max(1, Math.min(cellsPerSide, MAX_CELLS_PER_SIDE));
+        cellWidth = (right - left) / cellsPerSide;
+        cellHeight = (top - bottom) / cellsPerSide;
+
+        final int cellsCount = cellsPerSide * cellsPerSide;
+        if (cellStarts.length < cellsCount + 1) {
+            cellStarts = new int[cellsCount + 1];
+        }
+        if (cellValueIndexes.length < count) {
+            cellValueIndexes = new int[count];
+            valueCells = new int[count];
+            result = new int[count];
+        }
+        Arrays.fill(cellStarts, 0, cellsCount + 1, 0);
+        for (int i = 0; i < count; ++i) {
+            final int cell = computeRow(valuesY[i]) * cellsPerSide + computeColumn(valuesX[i]);
+            valueCells[i] = cell;
+            ++cellStarts[cell + 1];
+        }
+        for (int cell = 0; cell < cellsCount; ++cell) {
+            cellStarts[cell + 1] += cellStarts[cell];
+        }
+        // Use cell starts as insert positions, after that every start is moved to the next cell so shift them back.
+        for (int i = 0; i < count; ++i) {
+            cellValueIndexes[cellStarts[valueCells[i]]++] = i;
+        }
+        for (int cell = cellsCount; cell > 0; --cell) {
+            cellStarts[cell] = cellStarts[cell - 1];
+        }
+        cellStarts[0] = 0;
+    }
+
+    /**
+     * Finds points from all cells intersecting given rectangle, top is greater than bottom like in
+     * {@link lecho.lib.hellocharts.model.Viewport}. Result contains every point inside rectangle but may contain points
+     * close to it too so callers have to check points precisely. Returns number of found points, their indexes are
+     * available through {@link #getResult(int)} in increasing order.
+     */
+    public int query(float left, float top, float right, float bottom) {
+        if (valuesCount == 0 || left > this.right || right < this.left || bottom > this.top || top < this.bottom) {
+            return 0;
+        }
+        final int fromColumn = computeColumn(left);
+        final int toColumn = computeColumn(right);
+        final int fromRow = computeRow(bottom);
+        final int toRow = computeRow(top);
+        if (fromColumn == 0 && fromRow == 0 && toColumn == cellsPerSide - 1 && toRow == cellsPerSide - 1) {
+            // Whole grid is queried, no need to sort.
+            for (int i = 0; i < valuesCount; ++i) {
+                result[i] = i;
+            }
+            return valuesCount;
+        }
+        int resultCount = 0;
+        for (int row = fromRow; row <= toRow; ++row) {
+            final int rowStart = row * cellsPerSide;
+            final int from = cellStarts[rowStart + fromColumn];
+            final int to = cellStarts[rowStart + toColumn + 1];
+            // Cells of one row are stored one after another.
+            System.arraycopy(cellValueIndexes, from, result, resultCount, to - from);
+            resultCount += to - from;
+        }
+        Arrays.sort(result, 0, resultCount);
+        return resultCount;
+    }
+
+    /**
+     * Returns index of point at given position of last query result.
+     */
+    public int getResult(int position) {
+        return result[position];
+    }
+
+    private int computeColumn(float x) {
+        if (cellWidth <= 0) {
+            return 0;
+        }
+        return Math.max(0, Math.min((int) ((x - left) / cellWidth), cellsPerSide - 1));
+    }
+
+    private int computeRow(float y) {
+        if (cellHeight <= 0) {
+            return 0;
+        }
+        return Math.max(0, Math.min((int) ((y - bottom) / cellHeight), cellsPerSide - 1));
+    }
+}
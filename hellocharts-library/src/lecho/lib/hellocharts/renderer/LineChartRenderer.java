@@ -2,24 +2,36 @@ package lecho.lib.hellocharts.renderer;
 
 import android.content.Context;
 import android.graphics.Bitmap;
+import android.graphics.BitmapShader;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.LinearGradient;
 import android.graphics.Paint;
+import android.graphics.Matrix;
 import android.graphics.Paint.Cap;
 import android.graphics.Path;
-import android.graphics.PorterDuff.Mode;
 import android.graphics.Rect;
 import android.graphics.Shader;
+import android.os.Build;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import lecho.lib.hellocharts.model.CrosshairSelection;
 import lecho.lib.hellocharts.model.Line;
 import lecho.lib.hellocharts.model.LineChartData;
+import lecho.lib.hellocharts.model.PointSeries;
+import lecho.lib.hellocharts.model.PointSeriesPyramid;
 import lecho.lib.hellocharts.model.PointValue;
+import lecho.lib.hellocharts.model.RangeQueryPointSeries;
+import lecho.lib.hellocharts.model.RingPointSeries;
 import lecho.lib.hellocharts.model.SelectedValue.SelectedValueType;
 import lecho.lib.hellocharts.model.ValueShape;
+import lecho.lib.hellocharts.model.VersionedPointSeries;
 import lecho.lib.hellocharts.model.Viewport;
 import lecho.lib.hellocharts.provider.LineChartDataProvider;
 import lecho.lib.hellocharts.util.ChartUtils;
+import lecho.lib.hellocharts.util.SeriesUtils;
 import lecho.lib.hellocharts.view.Chart;
 
 /**
@@ -29,10 +41,43 @@ public class LineChartRenderer extends AbstractChartRenderer {
     private static final float LINE_SMOOTHNESS = 0.16f;
     private static final int DEFAULT_LINE_STROKE_WIDTH_DP = 3;
     private static final int DEFAULT_TOUCH_TOLERANCE_MARGIN_DP = 4;
+    private static final int DEFAULT_CUBIC_FLATTENING_THRESHOLD_DP = 1;
+    private static final int DEFAULT_CROSSHAIR_STROKE_WIDTH_DP = 1;
+    private static final long DEFAULT_LEVEL_OF_DETAIL_MEMORY_BUDGET = 16 * 1024 * 1024;
+    /**
+     * Maximum number of values in range for which raw coordinates are cached, bigger ranges are projected directly.
+     */
+    private static final int MAX_PROJECTION_CACHE_SIZE = 128 * 1024;
+    /**
+     * Maximum number of segments drawn with single canvas.drawLines() call in lines batching mode.
+     */
+    private static final int MAX_LINES_BATCH_SEGMENTS = 4096;
+    /**
+     * Maximum number of point markers drawn with single draw call.
+     */
+    private static final int MAX_POINTS_BATCH_SIZE = 4096;
+    /**
+     * Maximum number of control points caches kept for single line, one for line series and one for every level of
+     * detail recently drawn.
+     */
+    private static final int MAX_CONTROL_POINTS_CACHES_PER_LINE = 4;
+    private static final float SQRT_2 = (float) Math.sqrt(2);
 
     private static final int MODE_DRAW = 0;
     private static final int MODE_HIGHLIGHT = 1;
 
+    /**
+     * Number of values outside of viewport that are still processed for lines sorted by X, so segments that cross
+     * viewport edges are drawn.
+     */
+    private static final int VISIBLE_RANGE_PADDING = 1;
+
+    /**
+     * Width of X range covered by paths built during gesture, in visible viewport widths and centered on visible
+     * viewport. Scrolling by less than one viewport width or zooming out less than 3 times reuses the same paths.
+     */
+    private static final float GESTURE_PATH_COVERAGE = 3;
+
     private LineChartDataProvider dataProvider;
 
     private int checkPrecision;
@@ -43,16 +88,141 @@ public class LineChartRenderer extends AbstractChartRenderer {
     private Path path = new Path();
     private Paint linePaint = new Paint();
     private Paint pointPaint = new Paint();
+    /**
+     * Reusable value passed to label formatter for series that don't keep PointValue objects.
+     */
+    private PointValue labelValue = new PointValue();
 
-    private Bitmap softwareBitmap;
-    private Canvas softwareCanvas = new Canvas();
     private Viewport tempMaximumViewport = new Viewport();
 
+    /**
+     * Range of values indexes of currently processed line that should be drawn, fromIndex is inclusive, toIndex is
+     * exclusive. Calculated by {@link #calculateVisibleRange(PointSeries, boolean, int)}.
+     */
+    private int visibleFromIndex;
+    private int visibleToIndex;
+
+    /**
+     * State of pixel column bucket used when building aggregated path, see {@link #buildAggregatedPath(PointSeries, boolean)}.
+     */
+    private int bucketSize;
+    private int bucketFirstIndex;
+    private int bucketLastIndex;
+    private int bucketMinIndex;
+    private int bucketMaxIndex;
+    private float bucketMinRawY;
+    private float bucketMaxRawY;
+    private boolean isAggregatedPathEmpty;
+    private float aggregatedPreviousRawY;
+
+    /**
+     * Level of detail pyramids for lines of current data, index in list is line index, null for lines without level of
+     * detail or if pyramid has not been built yet.
+     */
+    private List<PointSeriesPyramid> pyramids = new ArrayList<PointSeriesPyramid>();
+    private long levelOfDetailMemoryBudget = DEFAULT_LEVEL_OF_DETAIL_MEMORY_BUDGET;
+
+    /**
+     * Raw coordinates caches for lines of current data, index in list is line index. Shared by drawing lines, points,
+     * highlight and touch checking, see {@link #prepareProjection(Line, int, PointSeries)}.
+     */
+    private List<ProjectionCache> projections = new ArrayList<ProjectionCache>();
+    /**
+     * Cache for currently processed line or null if its values are projected directly.
+     */
+    private ProjectionCache currentProjection;
+    /**
+     * Version used for series that don't implement {@link VersionedPointSeries}, their values can be modified in place
+     * so it's incremented in every frame that is not drawn during gesture. Caches of such series are built in every
+     * frame, shared by drawing passes and touch checking of that frame and reused only while gesture is in progress.
+     */
+    private int unversionedSeriesVersion;
+
+    /**
+     * Line and area paths caches for lines of current data, index in list is line index, see
+     * {@link #drawLine(Canvas, Line, int)}.
+     */
+    private List<LinePathCache> pathCaches = new ArrayList<LinePathCache>();
+    private Matrix pathMatrix = new Matrix();
+    private Path transformedPath = new Path();
+
+    /**
+     * Lines batching mode state, segments of consecutive lines with the same style are collected in linesBuffer(4
+     * floats per segment) and drawn with canvas.drawLines(), see {@link #setLinesBatchingEnabled(boolean)}.
+     */
+    private boolean isLinesBatchingEnabled = false;
+    private float[] linesBuffer = new float[0];
+    private int linesBufferSize;
+    private Line batchedLine;
+
+    /**
+     * Raw coordinates of point markers of currently drawn line(2 floats per marker), markers are drawn in batches, see
+     * {@link #flushPointsBatch(Canvas, Line, int)}.
+     */
+    private float[] pointsBuffer = new float[0];
+    private int pointsBufferSize;
+    private Paint batchPointPaint = new Paint();
+    private Path pointsPath = new Path();
+    /**
+     * Vertices and texture coordinates of sprite triangles(two triangles, 12 floats per sprite), all sprites of batch
+     * are drawn with single canvas.drawVertices() call textured by atlas bitmap shader.
+     */
+    private float[] spriteVertices = new float[0];
+    private float[] spriteTextureCoordinates = new float[0];
+    private Paint spritePaint = new Paint();
+    private Bitmap spriteShaderBitmap;
+    /**
+     * Atlas with pre-rendered markers, null if point sprites are disabled, see
+     * {@link #setPointSpritesEnabled(boolean)}.
+     */
+    private PointSpriteAtlas pointSpriteAtlas;
+
+    /**
+     * Bezier control points caches for cubic lines of current data, index in list is line index, every line has
+     * separate cache for every drawn series(line series or level of detail), the most recently used one is the last,
+     * see {@link #prepareControlPoints(int, PointSeries, int)}.
+     */
+    private List<List<ControlPointsCache>> controlPointsCaches = new ArrayList<List<ControlPointsCache>>();
+    /**
+     * Cubic segments shorter than that number of pixels are drawn as straight lines.
+     */
+    private float cubicFlatteningThreshold;
+
+    /**
+     * Area mesh mode, see {@link #setAreaMeshEnabled(boolean)}. Buffers are used for transformed vertices and
+     * per-vertex colors of area mesh.
+     */
+    private boolean isAreaMeshEnabled = false;
+    /**
+     * True if area mesh is drawn in current frame, that's if it's enabled and canvas supports drawVertices().
+     */
+    private boolean isAreaMeshDrawn;
+    private float[] areaVerticesBuffer = new float[0];
+    private int[] areaColorsBuffer = new int[0];
+
+    /**
+     * Number of values skipped by aggregation during the last draw.
+     */
+    private int skippedValuesCount;
+
+    /**
+     * Width of current viewport in follow tail mode, 0 if follow tail mode is disabled.
+     */
+    private float followTailWidth = 0;
+    /**
+     * Crosshair mode, see {@link #setCrosshairEnabled(boolean)}.
+     */
+    private boolean isCrosshairEnabled = false;
+    private boolean isCrosshairInterpolated = false;
+    private CrosshairSelection crosshairSelection = new CrosshairSelection();
+    private Paint crosshairPaint = new Paint();
+
     public LineChartRenderer(Context context, Chart chart, LineChartDataProvider dataProvider) {
         super(context, chart);
         this.dataProvider = dataProvider;
 
         touchToleranceMargin = ChartUtils.dp2px(density, DEFAULT_TOUCH_TOLERANCE_MARGIN_DP);
+        cubicFlatteningThreshold = ChartUtils.dp2px(density, DEFAULT_CUBIC_FLATTENING_THRESHOLD_DP);
 
         linePaint.setAntiAlias(true);
         linePaint.setStyle(Paint.Style.STROKE);
@@ -62,6 +232,14 @@ public class LineChartRenderer extends AbstractChartRenderer {
         pointPaint.setAntiAlias(true);
         pointPaint.setStyle(Paint.Style.FILL);
 
+        batchPointPaint.setAntiAlias(true);
+        batchPointPaint.setStyle(Paint.Style.STROKE);
+
+        crosshairPaint.setAntiAlias(true);
+        crosshairPaint.setStyle(Paint.Style.STROKE);
+        crosshairPaint.setStrokeWidth(ChartUtils.dp2px(density, DEFAULT_CROSSHAIR_STROKE_WIDTH_DP));
+        crosshairPaint.setColor(ChartUtils.DEFAULT_DARKEN_COLOR);
+
         checkPrecision = ChartUtils.dp2px(density, 2);
 
     }
@@ -70,11 +248,6 @@ public class LineChartRenderer extends AbstractChartRenderer {
         final int internalMargin = calculateContentRectInternalMargin();
         computator.insetContentRectByInternalMargins(internalMargin, internalMargin,
                 internalMargin, internalMargin);
-        if (computator.getChartWidth() > 0 && computator.getChartHeight() > 0) {
-            softwareBitmap = Bitmap.createBitmap(computator.getChartWidth(), computator.getChartHeight(),
-                    Bitmap.Config.ARGB_8888);
-            softwareCanvas.setBitmap(softwareBitmap);
-        }
     }
 
     @Override
@@ -84,49 +257,60 @@ public class LineChartRenderer extends AbstractChartRenderer {
         computator.insetContentRectByInternalMargins(internalMargin, internalMargin,
                 internalMargin, internalMargin);
         baseValue = dataProvider.getLineChartData().getBaseValue();
+        pyramids.clear();
+        projections.clear();
+        pathCaches.clear();
+        controlPointsCaches.clear();
+        crosshairSelection.clear();
+        if (null != pointSpriteAtlas) {
+            pointSpriteAtlas.clear();
+        }
+        releaseSpriteShader();
 
         onChartViewportChanged();
     }
 
     @Override
     public void onChartViewportChanged() {
+        // Values could have changed because of data animation or appending.
+        ++dataVersion;
         if (isViewportCalculationEnabled) {
             calculateMaxViewport();
             computator.setMaxViewport(tempMaximumViewport);
-            computator.setCurrentViewport(computator.getMaximumViewport());
+            final Viewport maxViewport = computator.getMaximumViewport();
+            if (followTailWidth > 0) {
+                computator.setCurrentViewport(Math.max(maxViewport.left, maxViewport.right - followTailWidth),
+                        maxViewport.top, maxViewport.right, maxViewport.bottom);
+            } else {
+                computator.setCurrentViewport(maxViewport);
+            }
         }
     }
 
     @Override
     public void draw(Canvas canvas) {
         final LineChartData data = dataProvider.getLineChartData();
-
-        final Canvas drawCanvas;
-
-        // softwareBitmap can be null if chart is rendered in layout editor. In that case use default canvas and not
-        // softwareCanvas.
-        if (null != softwareBitmap) {
-            drawCanvas = softwareCanvas;
-            drawCanvas.drawColor(Color.TRANSPARENT, Mode.CLEAR);
-        } else {
-            drawCanvas = canvas;
+        if (!chart.getTouchHandler().isGestureInProgress()) {
+            ++unversionedSeriesVersion;
         }
+        // Hardware accelerated canvas doesn't support drawVertices(), area is filled with path in that case.
+        isAreaMeshDrawn = isAreaMeshEnabled && canDrawVertices(canvas);
 
+        skippedValuesCount = 0;
+        int lineIndex = 0;
         for (Line line : data.getLines()) {
             if (line.hasLines()) {
-                if (line.isCubic()) {
-                    drawSmoothPath(drawCanvas, line);
-                } else if (line.isSquare()) {
-                    drawSquarePath(drawCanvas, line);
+                if (isLinesBatchingEnabled && canBatchLine(line)) {
+                    batchLine(canvas, line, lineIndex);
                 } else {
-                    drawPath(drawCanvas, line);
+                    // Keep drawing order of lines.
+                    flushLinesBatch(canvas);
+                    drawLine(canvas, line, lineIndex);
                 }
             }
+            ++lineIndex;
         }
-
-        if (null != softwareBitmap) {
-            canvas.drawBitmap(softwareBitmap, 0, 0, null);
-        }
+        flushLinesBatch(canvas);
     }
 
     @Override
@@ -139,32 +323,50 @@ public class LineChartRenderer extends AbstractChartRenderer {
             }
             ++lineIndex;
         }
+    }
+
+    @Override
+    public void drawHighlight(Canvas canvas) {
         if (isTouched()) {
-            // Redraw touched point to bring it to the front
             highlightPoints(canvas);
         }
+        if (crosshairSelection.isSet()) {
+            drawCrosshair(canvas);
+        }
     }
 
     private boolean checkIfShouldDrawPoints(Line line) {
-        return line.hasPoints() || line.getValues().size() == 1;
+        return line.hasPoints() || line.getSeries().size() == 1;
     }
 
+    /**
+     * Selects value nearest to touch point within touch radius of its point. For lines sorted by X only values within
+     * touch radius from touched X are checked, they are found by binary search.
+     */
     @Override
     public boolean checkTouch(float touchX, float touchY) {
         selectedValue.clear();
         final LineChartData data = dataProvider.getLineChartData();
+        float minDistance = Float.MAX_VALUE;
         int lineIndex = 0;
         for (Line line : data.getLines()) {
             if (checkIfShouldDrawPoints(line)) {
-                int pointRadius = ChartUtils.dp2px(density, line.getPointRadius());
-                int valueIndex = 0;
-                for (PointValue pointValue : line.getValues()) {
-                    final float rawValueX = computator.computeRawX(pointValue.getX());
-                    final float rawValueY = computator.computeRawY(pointValue.getY());
-                    if (isInArea(rawValueX, rawValueY, touchX, touchY, pointRadius + touchToleranceMargin)) {
+                final int pointRadius = ChartUtils.dp2px(density, line.getPointRadius());
+                // Point can be touched within half of diagonal of square circumscribed around its touch circle.
+                final float touchRadius = (pointRadius + touchToleranceMargin) * SQRT_2;
+                final float maxDistance = touchRadius * touchRadius;
+                final PointSeries series = line.getSeries();
+                calculateVisibleRange(series, line.isSortedByX(), computator.computeValueX(touchX - touchRadius),
+                        computator.computeValueX(touchX + touchRadius), 0);
+                findProjection(lineIndex, series);
+                for (int valueIndex = visibleFromIndex; valueIndex < visibleToIndex; ++valueIndex) {
+                    final float diffX = touchX - computeRawX(series, valueIndex);
+                    final float diffY = touchY - computeRawY(series, valueIndex);
+                    final float distance = diffX * diffX + diffY * diffY;
+                    if (distance <= maxDistance && distance <= minDistance) {
+                        minDistance = distance;
                         selectedValue.set(lineIndex, valueIndex, SelectedValueType.LINE);
                     }
-                    ++valueIndex;
                 }
             }
             ++lineIndex;
@@ -172,27 +374,115 @@ public class LineChartRenderer extends AbstractChartRenderer {
         return isTouched();
     }
 
+    /**
+     * Moves crosshair to given raw X coordinate and finds value of every line at that position, values are found by
+     * binary search for lines sorted by X and by linear scan for other lines. Returns false and hides crosshair if
+     * crosshair is disabled or touch is outside of content rect.
+     */
+    public boolean moveCrosshair(float touchX) {
+        final Rect contentRect = computator.getContentRectMinusAllMargins();
+        if (!isCrosshairEnabled || contentRect.isEmpty() || touchX < contentRect.left || touchX > contentRect.right) {
+            crosshairSelection.clear();
+            return false;
+        }
+        final float x = computator.computeValueX(touchX);
+        final List<Line> lines = dataProvider.getLineChartData().getLines();
+        crosshairSelection.reset(x, lines.size());
+        int lineIndex = 0;
+        for (Line line : lines) {
+            final PointSeries series = line.getSeries();
+            final int valueIndex = findNearestIndex(series, line.isSortedByX(), x);
+            if (valueIndex >= 0) {
+                final float valueX = series.getX(valueIndex);
+                final float valueY = series.getY(valueIndex);
+                if (!isCrosshairInterpolated || !line.isSortedByX() || valueX == x) {
+                    crosshairSelection.set(lineIndex, valueIndex, valueX, valueY);
+                } else {
+                    // Interpolate between nearest value and its neighbour on the other side of crosshair.
+                    // Use nearest value if crosshair is outside of line or neighbour has the same X.
+                    final int neighbourIndex = valueX < x ? valueIndex + 1 : valueIndex - 1;
+                    final float neighbourX = neighbourIndex >= 0 && neighbourIndex < series.size()
+                            ? series.getX(neighbourIndex) : valueX;
+                    if (neighbourX == valueX) {
+                        crosshairSelection.set(lineIndex, valueIndex, valueX, valueY);
+                    } else {
+                        final float neighbourY = series.getY(neighbourIndex);
+                        final float ratio = (x - valueX) / (neighbourX - valueX);
+                        crosshairSelection.set(lineIndex, valueIndex, x, valueY + (neighbourY - valueY) * ratio);
+                    }
+                }
+            }
+            ++lineIndex;
+        }
+        return true;
+    }
+
+    public void hideCrosshair() {
+        crosshairSelection.clear();
+    }
+
+    /**
+     * Returns current crosshair values, selection is not set if crosshair is hidden.
+     */
+    public CrosshairSelection getCrosshairSelection() {
+        return crosshairSelection;
+    }
+
+    /**
+     * Returns index of value with X nearest to given x or -1 if series is empty.
+     */
+    private int findNearestIndex(PointSeries series, boolean isSortedByX, float x) {
+        if (isSortedByX) {
+            return SeriesUtils.nearestIndex(series, x);
+        }
+        int nearestIndex = -1;
+        float minDistance = Float.MAX_VALUE;
+        final int seriesSize = series.size();
+        for (int valueIndex = 0; valueIndex < seriesSize; ++valueIndex) {
+            final float distance = Math.abs(series.getX(valueIndex) - x);
+            if (distance < minDistance) {
+                minDistance = distance;
+                nearestIndex = valueIndex;
+            }
+        }
+        return nearestIndex;
+    }
+
     private void calculateMaxViewport() {
         tempMaximumViewport.set(Float.MAX_VALUE, Float.MIN_VALUE, Float.MIN_VALUE, Float.MAX_VALUE);
         LineChartData data = dataProvider.getLineChartData();
 
         for (Line line : data.getLines()) {
             // Calculate max and min for viewport.
-            for (PointValue pointValue : line.getValues()) {
-                if (pointValue.getX() < tempMaximumViewport.left) {
-                    tempMaximumViewport.left = pointValue.getX();
-                }
-                if (pointValue.getX() > tempMaximumViewport.right) {
-                    tempMaximumViewport.right = pointValue.getX();
-                }
-                if (pointValue.getY() < tempMaximumViewport.bottom) {
-                    tempMaximumViewport.bottom = pointValue.getY();
+            final PointSeries series = line.getSeries();
+            if (series instanceof RangeQueryPointSeries) {
+                // Series keeps index of its extremes so there is no need to scan all values.
+                final RangeQueryPointSeries rangeSeries = (RangeQueryPointSeries) series;
+                if (rangeSeries.size() > 0) {
+                    includeInMaxViewport(rangeSeries.getMinX(), rangeSeries.getMinY());
+                    includeInMaxViewport(rangeSeries.getMaxX(), rangeSeries.getMaxY());
                 }
-                if (pointValue.getY() > tempMaximumViewport.top) {
-                    tempMaximumViewport.top = pointValue.getY();
-                }
-
+                continue;
             }
+            final int seriesSize = series.size();
+            for (int valueIndex = 0; valueIndex < seriesSize; ++valueIndex) {
+                includeInMaxViewport(series.getX(valueIndex), series.getY(valueIndex));
+            }
+        }
+    }
+
+    private void includeInMaxViewport(float x, float y) {
+        if (x < tempMaximumViewport.left) {
+            tempMaximumViewport.left = x;
+        }
+        if (x > tempMaximumViewport.right) {
+            tempMaximumViewport.right = x;
+        }
+        if (y < tempMaximumViewport.bottom) {
+            tempMaximumViewport.bottom = y;
+        }
+        if (y > tempMaximumViewport.top) {
+            tempMaximumViewport.top = y;
         }
     }
 
@@ -211,47 +501,224 @@ public class LineChartRenderer extends AbstractChartRenderer {
     }
 
     /**
-     * Draws lines, uses path for drawing filled area on software canvas. Line is drawn with canvas.drawLines() method.
+     * Draws line and its area using cached paths. Paths are rebuilt when data or viewport changes, but while gesture
+     * is in progress(see {@link lecho.lib.hellocharts.gesture.ChartTouchHandler#isGestureInProgress()}) they are only
+     * transformed by matrix as long as they cover visible viewport. Chart is invalidated when gesture finishes so paths
+     * are rebuilt in full precision.
      */
-    private void drawPath(Canvas canvas, final Line line) {
+    private void drawLine(Canvas canvas, final Line line, int lineIndex) {
         prepareLinePaint(line);
+        while (pathCaches.size() <= lineIndex) {
+            pathCaches.add(new LinePathCache());
+        }
+        final LinePathCache pathCache = pathCaches.get(lineIndex);
+        final boolean isGestureInProgress = chart.getTouchHandler().isGestureInProgress();
+        if (!canReusePathCache(line, pathCache, isGestureInProgress)) {
+            buildLinePaths(line, lineIndex, pathCache, isGestureInProgress);
+        }
+        skippedValuesCount += pathCache.skippedValuesCount;
+
+        Path linePath = pathCache.linePath;
+        final boolean isTransformed = pathCache.transformationVersion != computator.getTransformationVersion();
+        if (isTransformed) {
+            computator.getTransformationMatrix(pathCache.viewport, pathCache.contentRect, pathMatrix);
+            linePath.transform(pathMatrix, transformedPath);
+            linePath = transformedPath;
+        }
+        canvas.drawPath(linePath, linePaint);
+
+        if (line.isFilled() && pathCache.areaVerticesCount > 0 && isAreaMeshDrawn) {
+            drawAreaMesh(canvas, line, pathCache, isTransformed);
+        } else if (line.isFilled() && !pathCache.areaPath.isEmpty()) {
+            Path areaPath = pathCache.areaPath;
+            if (isTransformed) {
+                areaPath.transform(pathMatrix, transformedPath);
+                areaPath = transformedPath;
+            }
+            drawArea(canvas, line, areaPath, pathCache);
+        }
+        transformedPath.reset();
+    }
 
-        int valueIndex = 0;
-        for (PointValue pointValue : line.getValues()) {
+    /**
+     * Returns true if line can be drawn as independent segments with canvas.drawLines(). Path effect would be applied
+     * to every segment separately so dashed lines are drawn with path.
+     */
+    private boolean canBatchLine(Line line) {
+        return !line.isCubic() && !line.isSquare() && !line.isFilled() && !line.isAggregated()
+                && null == line.getPathEffect();
+    }
 
-            final float rawX = computator.computeRawX(pointValue.getX());
-            final float rawY = computator.computeRawY(pointValue.getY());
+    private boolean hasSameLineStyle(Line first, Line second) {
+        return first.getColor() == second.getColor() && first.getStrokeWidth() == second.getStrokeWidth();
+    }
 
-            if (valueIndex == 0) {
-                path.moveTo(rawX, rawY);
-            } else {
-                path.lineTo(rawX, rawY);
+    /**
+     * Adds segments of visible part of line to lines batch, batch is drawn first if it contains segments of line with
+     * different style or if it is full.
+     */
+    private void batchLine(Canvas canvas, final Line line, int lineIndex) {
+        if (null != batchedLine && !hasSameLineStyle(batchedLine, line)) {
+            flushLinesBatch(canvas);
+        }
+        batchedLine = line;
+        if (linesBuffer.length == 0) {
+            linesBuffer = new float[MAX_LINES_BATCH_SEGMENTS * 4];
+        }
+
+        final PointSeries series = getDrawnSeries(line, lineIndex);
+        calculateVisibleRange(series, line.isSortedByX(), VISIBLE_RANGE_PADDING);
+        prepareProjection(line, lineIndex, series);
+        float previousRawX = 0;
+        float previousRawY = 0;
+        for (int valueIndex = visibleFromIndex; valueIndex < visibleToIndex; ++valueIndex) {
+            final float rawX = computeRawX(series, valueIndex);
+            final float rawY = computeRawY(series, valueIndex);
+            if (valueIndex > visibleFromIndex) {
+                if (linesBufferSize == linesBuffer.length) {
+                    flushLinesBatch(canvas);
+                    batchedLine = line;
+                }
+                linesBuffer[linesBufferSize++] = previousRawX;
+                linesBuffer[linesBufferSize++] = previousRawY;
+                linesBuffer[linesBufferSize++] = rawX;
+                linesBuffer[linesBufferSize++] = rawY;
             }
+            previousRawX = rawX;
+            previousRawY = rawY;
+        }
+    }
 
-            ++valueIndex;
+    /**
+     * Draws segments collected in lines batch with single canvas.drawLines() call and clears the batch.
+     */
+    private void flushLinesBatch(Canvas canvas) {
+        if (linesBufferSize > 0) {
+            prepareLinePaint(batchedLine);
+            canvas.drawLines(linesBuffer, 0, linesBufferSize, linePaint);
+        }
+        linesBufferSize = 0;
+        batchedLine = null;
+    }
 
+    private boolean canReusePathCache(Line line, LinePathCache pathCache, boolean isGestureInProgress) {
+        if (!pathCache.isValid || pathCache.series != line.getSeries() || pathCache.dataVersion != dataVersion
+                || pathCache.seriesVersion != getSeriesVersion(line.getSeries())
+                || pathCache.flags != calculatePathFlags(line)) {
+            return false;
+        }
+        if (pathCache.transformationVersion == computator.getTransformationVersion()) {
+            return true;
         }
+        final Viewport visibleViewport = computator.getVisibleViewport();
+        return isGestureInProgress && visibleViewport.left >= pathCache.coverageLeft
+                && visibleViewport.right <= pathCache.coverageRight;
+    }
 
-        canvas.drawPath(path, linePaint);
+    /**
+     * Returns flags of line attributes that change shape of its paths, area mesh is built only if it's drawn.
+     */
+    private int calculatePathFlags(Line line) {
+        int flags = 0;
+        flags |= line.isCubic() ? 1 : 0;
+        flags |= line.isSquare() ? 1 << 1 : 0;
+        flags |= line.isFilled() ? 1 << 2 : 0;
+        flags |= line.isAggregated() ? 1 << 3 : 0;
+        flags |= line.hasLevelOfDetail() ? 1 << 4 : 0;
+        flags |= line.isSortedByX() ? 1 << 5 : 0;
+        flags |= isAreaMeshDrawn ? 1 << 6 : 0;
+        return flags;
+    }
 
-        if (line.isFilled()) {
-            drawArea(canvas, line);
+    /**
+     * Builds line and area paths for current viewport and stores them in cache. During gesture paths of lines sorted
+     * by X cover {@link #GESTURE_PATH_COVERAGE} viewport widths so they can be reused while scrolling and zooming out.
+     * Coverage is unbounded on side where paths already reach the end of series, so once paths contain whole series
+     * they are reused for any zoom out.
+     */
+    private void buildLinePaths(Line line, int lineIndex, LinePathCache pathCache, boolean isGestureInProgress) {
+        final Viewport visibleViewport = computator.getVisibleViewport();
+        float left = visibleViewport.left;
+        float right = visibleViewport.right;
+        if (isGestureInProgress) {
+            final float padding = visibleViewport.width() * (GESTURE_PATH_COVERAGE - 1) / 2;
+            left -= padding;
+            right += padding;
         }
 
+        final PointSeries series = getDrawnSeries(line, lineIndex);
+        calculateVisibleRange(series, line.isSortedByX(), left, right, VISIBLE_RANGE_PADDING);
+        prepareProjection(line, lineIndex, series);
+
+        final int previousSkippedValuesCount = skippedValuesCount;
         path.reset();
+        if (line.isCubic()) {
+            buildSmoothPath(series, lineIndex, getSeriesVersion(line.getSeries()));
+        } else if (line.isAggregated()) {
+            buildAggregatedPath(series, line.isSquare());
+        } else if (line.isSquare()) {
+            buildSquarePath(series);
+        } else {
+            buildPath(series);
+        }
+        // Swap built path with cached one instead of copying it.
+        final Path linePath = pathCache.linePath;
+        pathCache.linePath = path;
+        path = linePath;
+        path.reset();
+
+        pathCache.areaPath.reset();
+        pathCache.areaVerticesCount = 0;
+        if (line.isFilled()) {
+            buildAreaPath(series, pathCache.linePath, pathCache.areaPath);
+            if (isAreaMeshDrawn && !line.isCubic() && !line.isAggregated()) {
+                buildAreaMesh(series, line.isSquare(), pathCache);
+            }
+        }
+
+        pathCache.skippedValuesCount = skippedValuesCount - previousSkippedValuesCount;
+        skippedValuesCount = previousSkippedValuesCount;
+        pathCache.series = line.getSeries();
+        pathCache.flags = calculatePathFlags(line);
+        pathCache.dataVersion = dataVersion;
+        pathCache.seriesVersion = getSeriesVersion(line.getSeries());
+        pathCache.transformationVersion = computator.getTransformationVersion();
+        pathCache.viewport.set(visibleViewport);
+        pathCache.contentRect.set(computator.getContentRectMinusAllMargins());
+        if (line.isSortedByX()) {
+            // Visible range is still set for built series.
+            pathCache.coverageLeft = visibleFromIndex == 0 ? Float.NEGATIVE_INFINITY : left;
+            pathCache.coverageRight = visibleToIndex == series.size() ? Float.POSITIVE_INFINITY : right;
+        } else {
+            pathCache.coverageLeft = Float.NEGATIVE_INFINITY;
+            pathCache.coverageRight = Float.POSITIVE_INFINITY;
+        }
+        pathCache.isValid = true;
     }
 
-    private void drawSquarePath(Canvas canvas, final Line line) {
-        prepareLinePaint(line);
+    private void buildPath(final PointSeries series) {
+        for (int valueIndex = visibleFromIndex; valueIndex < visibleToIndex; ++valueIndex) {
+
+            final float rawX = computeRawX(series, valueIndex);
+            final float rawY = computeRawY(series, valueIndex);
+
+            if (valueIndex == visibleFromIndex) {
+                path.moveTo(rawX, rawY);
+            } else {
+                path.lineTo(rawX, rawY);
+            }
 
-        int valueIndex = 0;
+        }
+    }
+
+    private void buildSquarePath(final PointSeries series) {
         float previousRawY = 0;
-        for (PointValue pointValue : line.getValues()) {
+        for (int valueIndex = visibleFromIndex; valueIndex < visibleToIndex; ++valueIndex) {
 
-            final float rawX = computator.computeRawX(pointValue.getX());
-            final float rawY = computator.computeRawY(pointValue.getY());
+            final float rawX = computeRawX(series, valueIndex);
+            final float rawY = computeRawY(series, valueIndex);
 
-            if (valueIndex == 0) {
+            if (valueIndex == visibleFromIndex) {
                 path.moveTo(rawX, rawY);
             } else {
                 path.lineTo(rawX, previousRawY);
@@ -260,102 +727,325 @@ public class LineChartRenderer extends AbstractChartRenderer {
 
             previousRawY = rawY;
 
-            ++valueIndex;
-
         }
+    }
+
+    /**
+     * Builds cubic path for visible values, control points are taken from cache and only projected. Segments shorter
+     * than {@link #cubicFlatteningThreshold} in both directions are added as straight lines.
+     */
+    private void buildSmoothPath(final PointSeries series, int lineIndex, int seriesVersion) {
+        final ControlPointsCache cache = prepareControlPoints(lineIndex, series, seriesVersion);
+        final float[] controlPoints = cache.points;
+        float previousRawX = 0;
+        float previousRawY = 0;
+        for (int valueIndex = visibleFromIndex; valueIndex < visibleToIndex; ++valueIndex) {
+            final float rawX = computeRawX(series, valueIndex);
+            final float rawY = computeRawY(series, valueIndex);
 
-        canvas.drawPath(path, linePaint);
+            if (valueIndex == visibleFromIndex) {
+                // Move to start point.
+                path.moveTo(rawX, rawY);
+            } else if (Math.abs(rawX - previousRawX) < cubicFlatteningThreshold
+                    && Math.abs(rawY - previousRawY) < cubicFlatteningThreshold) {
+                path.lineTo(rawX, rawY);
+            } else {
+                final int offset = (valueIndex - cache.fromIndex) * 4;
+                path.cubicTo(computator.computeRawX(controlPoints[offset]),
+                        computator.computeRawY(controlPoints[offset + 1]),
+                        computator.computeRawX(controlPoints[offset + 2]),
+                        computator.computeRawY(controlPoints[offset + 3]), rawX, rawY);
+            }
 
-        if (line.isFilled()) {
-            drawArea(canvas, line);
+            previousRawX = rawX;
+            previousRawY = rawY;
         }
-
-        path.reset();
     }
 
-    private void drawSmoothPath(Canvas canvas, final Line line) {
-        prepareLinePaint(line);
-
-        final int lineSize = line.getValues().size();
-        float prePreviousPointX = Float.NaN;
-        float prePreviousPointY = Float.NaN;
-        float previousPointX = Float.NaN;
-        float previousPointY = Float.NaN;
-        float currentPointX = Float.NaN;
-        float currentPointY = Float.NaN;
-        float nextPointX = Float.NaN;
-        float nextPointY = Float.NaN;
-
-        for (int valueIndex = 0; valueIndex < lineSize; ++valueIndex) {
-            if (Float.isNaN(currentPointX)) {
-                PointValue linePoint = line.getValues().get(valueIndex);
-                currentPointX = computator.computeRawX(linePoint.getX());
-                currentPointY = computator.computeRawY(linePoint.getY());
+    /**
+     * Returns cache with Bezier control points of segments of current visible range of given series in data space,
+     * calculates them if cache is not valid. Four values are kept for every value index i in cached range, at offset
+     * (i - fromIndex) * 4: first and second control point of segment from value i - 1 to value i. Projection of
+     * values to pixels is affine so projected control points are the same as control points of projected values. Only
+     * visible range is calculated so cost and memory depend on number of drawn values and not on series size.
+     *
+     * @param seriesVersion version of line series, levels of detail change only when line series changes
+     */
+    private ControlPointsCache prepareControlPoints(int lineIndex, PointSeries series, int seriesVersion) {
+        while (controlPointsCaches.size() <= lineIndex) {
+            controlPointsCaches.add(new ArrayList<ControlPointsCache>());
+        }
+        final List<ControlPointsCache> lineCaches = controlPointsCaches.get(lineIndex);
+        ControlPointsCache cache = null;
+        for (int cacheIndex = 0; cacheIndex < lineCaches.size(); ++cacheIndex) {
+            if (lineCaches.get(cacheIndex).series == series) {
+                cache = lineCaches.remove(cacheIndex);
+                break;
             }
-            if (Float.isNaN(previousPointX)) {
-                if (valueIndex > 0) {
-                    PointValue linePoint = line.getValues().get(valueIndex - 1);
-                    previousPointX = computator.computeRawX(linePoint.getX());
-                    previousPointY = computator.computeRawY(linePoint.getY());
-                } else {
-                    previousPointX = currentPointX;
-                    previousPointY = currentPointY;
+        }
+        if (null == cache) {
+            // Reuse the least recently used cache if line has too many.
+            cache = lineCaches.size() < MAX_CONTROL_POINTS_CACHES_PER_LINE ? new ControlPointsCache()
+                    : lineCaches.remove(0);
+        }
+        lineCaches.add(cache);
+
+        final int size = series.size();
+        if (cache.series == series && cache.size == size && cache.dataVersion == dataVersion
+                && cache.seriesVersion == seriesVersion && cache.fromIndex <= visibleFromIndex
+                && cache.toIndex >= visibleToIndex) {
+            return cache;
+        }
+        final int count = visibleToIndex - visibleFromIndex;
+        if (cache.points.length < count * 4) {
+            cache.points = new float[count * 4];
+        }
+        final float[] points = cache.points;
+        for (int valueIndex = Math.max(visibleFromIndex, 1); valueIndex < visibleToIndex; ++valueIndex) {
+            final int prePreviousIndex = Math.max(valueIndex - 2, 0);
+            final int nextIndex = Math.min(valueIndex + 1, size - 1);
+            final float previousX = series.getX(valueIndex - 1);
+            final float previousY = series.getY(valueIndex - 1);
+            final float currentX = series.getX(valueIndex);
+            final float currentY = series.getY(valueIndex);
+            final float firstDiffX = currentX - series.getX(prePreviousIndex);
+            final float firstDiffY = currentY - series.getY(prePreviousIndex);
+            final float secondDiffX = series.getX(nextIndex) - previousX;
+            final float secondDiffY = series.getY(nextIndex) - previousY;
+            final int offset = (valueIndex - visibleFromIndex) * 4;
+            points[offset] = previousX + (LINE_SMOOTHNESS * firstDiffX);
+            points[offset + 1] = previousY + (LINE_SMOOTHNESS * firstDiffY);
+            points[offset + 2] = currentX - (LINE_SMOOTHNESS * secondDiffX);
+            points[offset + 3] = currentY - (LINE_SMOOTHNESS * secondDiffY);
+        }
+        cache.series = series;
+        cache.fromIndex = visibleFromIndex;
+        cache.toIndex = visibleToIndex;
+        cache.size = size;
+        cache.dataVersion = dataVersion;
+        cache.seriesVersion = seriesVersion;
+        return cache;
+    }
+
+    /**
+     * Builds path for visible values of line using per pixel column min/max aggregation(M4). Consecutive values that
+     * fall into the same pixel column form a bucket, only the first, the last, the minimum and the maximum value of
+     * every bucket are added to path, in their original order. Rasterized line looks the same as line with all
+     * values but path has at most four points per pixel column.
+     */
+    private void buildAggregatedPath(final PointSeries series, final boolean isSquare) {
+        isAggregatedPathEmpty = true;
+        bucketSize = 0;
+        int bucketColumn = 0;
+        for (int valueIndex = visibleFromIndex; valueIndex < visibleToIndex; ++valueIndex) {
+            final float rawX = computeRawX(series, valueIndex);
+            final float rawY = computeRawY(series, valueIndex);
+            final int column = (int) Math.floor(rawX);
+
+            if (bucketSize > 0 && column == bucketColumn) {
+                if (rawY < bucketMinRawY) {
+                    bucketMinRawY = rawY;
+                    bucketMinIndex = valueIndex;
+                }
+                if (rawY > bucketMaxRawY) {
+                    bucketMaxRawY = rawY;
+                    bucketMaxIndex = valueIndex;
                 }
+                bucketLastIndex = valueIndex;
+                ++bucketSize;
+            } else {
+                flushBucket(series, isSquare);
+                bucketColumn = column;
+                bucketFirstIndex = valueIndex;
+                bucketLastIndex = valueIndex;
+                bucketMinIndex = valueIndex;
+                bucketMaxIndex = valueIndex;
+                bucketMinRawY = rawY;
+                bucketMaxRawY = rawY;
+                bucketSize = 1;
             }
+        }
+        flushBucket(series, isSquare);
+    }
 
-            if (Float.isNaN(prePreviousPointX)) {
-                if (valueIndex > 1) {
-                    PointValue linePoint = line.getValues().get(valueIndex - 2);
-                    prePreviousPointX = computator.computeRawX(linePoint.getX());
-                    prePreviousPointY = computator.computeRawY(linePoint.getY());
-                } else {
-                    prePreviousPointX = previousPointX;
-                    prePreviousPointY = previousPointY;
-                }
+    /**
+     * Adds values selected from current bucket to path, indexes are non-decreasing so duplicates are always adjacent.
+     */
+    private void flushBucket(PointSeries series, boolean isSquare) {
+        if (bucketSize == 0) {
+            return;
+        }
+        addAggregatedValue(series, bucketFirstIndex, isSquare);
+        int addedCount = 1;
+        int previousIndex = bucketFirstIndex;
+        final int lowIndex = Math.min(bucketMinIndex, bucketMaxIndex);
+        final int highIndex = Math.max(bucketMinIndex, bucketMaxIndex);
+        if (lowIndex != previousIndex) {
+            addAggregatedValue(series, lowIndex, isSquare);
+            ++addedCount;
+            previousIndex = lowIndex;
+        }
+        if (highIndex != previousIndex) {
+            addAggregatedValue(series, highIndex, isSquare);
+            ++addedCount;
+            previousIndex = highIndex;
+        }
+        if (bucketLastIndex != previousIndex) {
+            addAggregatedValue(series, bucketLastIndex, isSquare);
+            ++addedCount;
+        }
+        skippedValuesCount += bucketSize - addedCount;
+        bucketSize = 0;
+    }
+
+    private void addAggregatedValue(PointSeries series, int valueIndex, boolean isSquare) {
+        final float rawX = computeRawX(series, valueIndex);
+        final float rawY = computeRawY(series, valueIndex);
+        if (isAggregatedPathEmpty) {
+            path.moveTo(rawX, rawY);
+            isAggregatedPathEmpty = false;
+        } else {
+            if (isSquare) {
+                path.lineTo(rawX, aggregatedPreviousRawY);
             }
+            path.lineTo(rawX, rawY);
+        }
+        aggregatedPreviousRawY = rawY;
+    }
 
-            // nextPoint is always new one or it is equal currentPoint.
-            if (valueIndex < lineSize - 1) {
-                PointValue linePoint = line.getValues().get(valueIndex + 1);
-                nextPointX = computator.computeRawX(linePoint.getX());
-                nextPointY = computator.computeRawY(linePoint.getY());
-            } else {
-                nextPointX = currentPointX;
-                nextPointY = currentPointY;
+    /**
+     * Returns series that should be drawn for given line, that's line series or, if line has level of detail, the
+     * coarsest level of its pyramid that still has at least one value per pixel for current viewport. Pyramid is built
+     * on first use after data change and its levels are updated for current data version only when one of them is
+     * drawn, during data animation or appending to ring series values can change without data change.
+     */
+    private PointSeries getDrawnSeries(Line line, int lineIndex) {
+        final PointSeries series = line.getSeries();
+        final int pixels = computator.getContentRectMinusAllMargins().width();
+        if (!line.hasLevelOfDetail() || !line.isSortedByX() || pixels <= 0) {
+            return series;
+        }
+        while (pyramids.size() <= lineIndex) {
+            pyramids.add(null);
+        }
+        final long memoryBudget = levelOfDetailMemoryBudget / countLevelOfDetailLines();
+        PointSeriesPyramid pyramid = pyramids.get(lineIndex);
+        if (null == pyramid || !pyramid.isBuiltFor(series, pixels, computator.getMaxZoom(), memoryBudget)) {
+            pyramid = new PointSeriesPyramid(series, pixels, computator.getMaxZoom(), memoryBudget);
+            pyramids.set(lineIndex, pyramid);
+        }
+        final Viewport visibleViewport = computator.getVisibleViewport();
+        final int visibleCount = SeriesUtils.upperBound(series, visibleViewport.right)
+                - SeriesUtils.lowerBound(series, visibleViewport.left);
+        final PointSeries level = pyramid.getLevel(visibleCount, pixels);
+        if (level != series) {
+            pyramid.update(dataVersion);
+        }
+        return level;
+    }
+
+    /**
+     * Sets {@link #currentProjection} to cache with raw coordinates of current visible range of given series, fills
+     * the cache if it's not valid. Caches are used only for line own series and ranges not bigger than
+     * {@link #MAX_PROJECTION_CACHE_SIZE}, for other series currentProjection is null.
+     */
+    private void prepareProjection(Line line, int lineIndex, PointSeries series) {
+        currentProjection = null;
+        if (series != line.getSeries() || visibleToIndex - visibleFromIndex > MAX_PROJECTION_CACHE_SIZE) {
+            return;
+        }
+        while (projections.size() <= lineIndex) {
+            projections.add(new ProjectionCache());
+        }
+        final ProjectionCache projection = projections.get(lineIndex);
+        final int transformationVersion = computator.getTransformationVersion();
+        final int seriesVersion = getSeriesVersion(series);
+        if (!projection.isValid(series, visibleFromIndex, visibleToIndex, transformationVersion, dataVersion,
+                seriesVersion)) {
+            projection.reset(series, visibleFromIndex, visibleToIndex, transformationVersion, dataVersion,
+                    seriesVersion);
+            for (int valueIndex = visibleFromIndex; valueIndex < visibleToIndex; ++valueIndex) {
+                projection.set(valueIndex, computator.computeRawX(series.getX(valueIndex)),
+                        computator.computeRawY(series.getY(valueIndex)));
             }
+        }
+        currentProjection = projection;
+    }
 
-            if (valueIndex == 0) {
-                // Move to start point.
-                path.moveTo(currentPointX, currentPointY);
-            } else {
-                // Calculate control points.
-                final float firstDiffX = (currentPointX - prePreviousPointX);
-                final float firstDiffY = (currentPointY - prePreviousPointY);
-                final float secondDiffX = (nextPointX - previousPointX);
-                final float secondDiffY = (nextPointY - previousPointY);
-                final float firstControlPointX = previousPointX + (LINE_SMOOTHNESS * firstDiffX);
-                final float firstControlPointY = previousPointY + (LINE_SMOOTHNESS * firstDiffY);
-                final float secondControlPointX = currentPointX - (LINE_SMOOTHNESS * secondDiffX);
-                final float secondControlPointY = currentPointY - (LINE_SMOOTHNESS * secondDiffY);
-                path.cubicTo(firstControlPointX, firstControlPointY, secondControlPointX, secondControlPointY,
-                        currentPointX, currentPointY);
+    /**
+     * Sets {@link #currentProjection} to cache of given line if it's valid for current visible range, otherwise to
+     * null. Unlike {@link #prepareProjection(Line, int, PointSeries)} it never fills the cache so touch checking of
+     * small range around touch point reuses coordinates projected by drawing without replacing them.
+     */
+    private void findProjection(int lineIndex, PointSeries series) {
+        currentProjection = null;
+        if (lineIndex < projections.size()) {
+            final ProjectionCache projection = projections.get(lineIndex);
+            if (projection.isValid(series, visibleFromIndex, visibleToIndex, computator.getTransformationVersion(),
+                    dataVersion, getSeriesVersion(series))) {
+                currentProjection = projection;
             }
+        }
+    }
 
-            // Shift values by one back to prevent recalculation of values that have
-            // been already calculated.
-            prePreviousPointX = previousPointX;
-            prePreviousPointY = previousPointY;
-            previousPointX = currentPointX;
-            previousPointY = currentPointY;
-            currentPointX = nextPointX;
-            currentPointY = nextPointY;
+    /**
+     * Returns version of given series that caches of its values are built for, see {@link #unversionedSeriesVersion}.
+     */
+    private int getSeriesVersion(PointSeries series) {
+        if (series instanceof VersionedPointSeries) {
+            return ((VersionedPointSeries) series).getVersion();
         }
+        return unversionedSeriesVersion;
+    }
 
-        canvas.drawPath(path, linePaint);
-        if (line.isFilled()) {
-            drawArea(canvas, line);
+    private float computeRawX(PointSeries series, int valueIndex) {
+        if (null != currentProjection) {
+            return currentProjection.getRawX(valueIndex);
         }
-        path.reset();
+        return computator.computeRawX(series.getX(valueIndex));
+    }
+
+    private float computeRawY(PointSeries series, int valueIndex) {
+        if (null != currentProjection) {
+            return currentProjection.getRawY(valueIndex);
+        }
+        return computator.computeRawY(series.getY(valueIndex));
+    }
+
+    private int countLevelOfDetailLines() {
+        int count = 0;
+        for (Line line : dataProvider.getLineChartData().getLines()) {
+            if (line.hasLevelOfDetail() && line.isSortedByX()) {
+                ++count;
+            }
+        }
+        return Math.max(count, 1);
+    }
+
+    /**
+     * Calculates range of values of given series that should be drawn and stores it in {@link #visibleFromIndex} and
+     * {@link #visibleToIndex}. For series sorted by X that's range of values within visible viewport with padding
+     * values on each side, found by binary search. For other series it's the whole series.
+     */
+    private void calculateVisibleRange(PointSeries series, boolean isSortedByX, int padding) {
+        final Viewport visibleViewport = computator.getVisibleViewport();
+        calculateVisibleRange(series, isSortedByX, visibleViewport.left, visibleViewport.right, padding);
+    }
+
+    /**
+     * Same as {@link #calculateVisibleRange(PointSeries, boolean, int)} but for given X range instead of visible
+     * viewport.
+     */
+    private void calculateVisibleRange(PointSeries series, boolean isSortedByX, float left, float right,
+                                       int padding) {
+        final int seriesSize = series.size();
+        if (!isSortedByX || seriesSize == 0) {
+            visibleFromIndex = 0;
+            visibleToIndex = seriesSize;
+            return;
+        }
+        visibleFromIndex = Math.max(SeriesUtils.lowerBound(series, left) - padding, 0);
+        visibleToIndex = Math.min(SeriesUtils.upperBound(series, right) + padding, seriesSize);
     }
 
     private void prepareLinePaint(final Line line) {
@@ -370,68 +1060,206 @@ public class LineChartRenderer extends AbstractChartRenderer {
     // implementing point styles.
     private void drawPoints(Canvas canvas, Line line, int lineIndex, int mode) {
         pointPaint.setColor(line.getPointColor());
-        int valueIndex = 0;
-        for (PointValue pointValue : line.getValues()) {
-            int pointRadius = ChartUtils.dp2px(density, line.getPointRadius());
-            final float rawX = computator.computeRawX(pointValue.getX());
-            final float rawY = computator.computeRawY(pointValue.getY());
+        final PointSeries series = line.getSeries();
+        calculateVisibleRange(series, line.isSortedByX(), VISIBLE_RANGE_PADDING);
+        prepareProjection(line, lineIndex, series);
+        final int pointRadius = ChartUtils.dp2px(density, line.getPointRadius());
+        if (MODE_DRAW == mode && pointsBuffer.length == 0) {
+            pointsBuffer = new float[MAX_POINTS_BATCH_SIZE * 2];
+        }
+        for (int valueIndex = visibleFromIndex; valueIndex < visibleToIndex; ++valueIndex) {
+            final float rawX = computeRawX(series, valueIndex);
+            final float rawY = computeRawY(series, valueIndex);
             if (computator.isWithinContentRect(rawX, rawY, checkPrecision)) {
                 // Draw points only if they are within contentRectMinusAllMargins, using contentRectMinusAllMargins
                 // instead of viewport to avoid some
                 // float rounding problems.
                 if (MODE_DRAW == mode) {
-                    drawPoint(canvas, line, pointValue, rawX, rawY, pointRadius);
-                    if (line.hasLabels()) {
-                        drawLabel(canvas, line, pointValue, rawX, rawY, pointRadius + labelOffset);
+                    if (pointsBufferSize == pointsBuffer.length) {
+                        flushPointsBatch(canvas, line, pointRadius);
                     }
+                    pointsBuffer[pointsBufferSize++] = rawX;
+                    pointsBuffer[pointsBufferSize++] = rawY;
                 } else if (MODE_HIGHLIGHT == mode) {
-                    highlightPoint(canvas, line, pointValue, rawX, rawY, lineIndex, valueIndex);
+                    highlightPoint(canvas, line, rawX, rawY, lineIndex, valueIndex);
                 } else {
                     throw new IllegalStateException("Cannot process points in mode: " + mode);
                 }
             }
-            ++valueIndex;
         }
+        if (MODE_DRAW == mode) {
+            flushPointsBatch(canvas, line, pointRadius);
+            if (line.hasLabels()) {
+                drawLabels(canvas, line, series, pointRadius);
+            }
+        }
+    }
+
+    /**
+     * Draws labels of visible values, labels are drawn after all markers of line so markers don't cover them.
+     */
+    private void drawLabels(Canvas canvas, Line line, PointSeries series, int pointRadius) {
+        for (int valueIndex = visibleFromIndex; valueIndex < visibleToIndex; ++valueIndex) {
+            final float rawX = computeRawX(series, valueIndex);
+            final float rawY = computeRawY(series, valueIndex);
+            if (computator.isWithinContentRect(rawX, rawY, checkPrecision)) {
+                drawLabel(canvas, line, valueIndex, rawX, rawY, pointRadius + labelOffset);
+            }
+        }
+    }
+
+    /**
+     * Draws markers collected in pointsBuffer and clears the buffer. Markers are copied from sprite atlas if it's
+     * enabled, otherwise circles and squares are drawn with single canvas.drawPoints() call using round or square
+     * stroke cap and diamonds with single path.
+     */
+    private void flushPointsBatch(Canvas canvas, Line line, int pointRadius) {
+        if (pointsBufferSize == 0 || pointRadius <= 0) {
+            pointsBufferSize = 0;
+            return;
+        }
+        final ValueShape shape = line.getShape();
+        if (null != pointSpriteAtlas && canDrawVertices(canvas)
+                && drawPointSprites(canvas, shape, line.getPointColor(), pointRadius)) {
+            pointsBufferSize = 0;
+            return;
+        }
+        if (ValueShape.CIRCLE.equals(shape) || ValueShape.SQUARE.equals(shape)) {
+            batchPointPaint.setColor(line.getPointColor());
+            batchPointPaint.setStrokeWidth(2 * pointRadius);
+            batchPointPaint.setStrokeCap(ValueShape.CIRCLE.equals(shape) ? Cap.ROUND : Cap.SQUARE);
+            canvas.drawPoints(pointsBuffer, 0, pointsBufferSize, batchPointPaint);
+        } else if (ValueShape.DIAMOND.equals(shape)) {
+            for (int i = 0; i < pointsBufferSize; i += 2) {
+                addDiamond(pointsPath, pointsBuffer[i], pointsBuffer[i + 1], pointRadius);
+            }
+            canvas.drawPath(pointsPath, pointPaint);
+            pointsPath.reset();
+        } else {
+            throw new IllegalArgumentException("Invalid point shape: " + shape);
+        }
+        pointsBufferSize = 0;
+    }
+
+    /**
+     * Draws all markers in pointsBuffer as quads textured by sprite from atlas with single canvas.drawVertices() call,
+     * so it can be used only if {@link #canDrawVertices(Canvas)} is true. Returns false if atlas has no space for
+     * sprite.
+     */
+    private boolean drawPointSprites(Canvas canvas, ValueShape shape, int color, int pointRadius) {
+        final Rect sprite = pointSpriteAtlas.getSprite(shape, color, pointRadius);
+        if (null == sprite) {
+            return false;
+        }
+        final Bitmap atlasBitmap = pointSpriteAtlas.getBitmap();
+        if (spriteShaderBitmap != atlasBitmap) {
+            spritePaint.setShader(new BitmapShader(atlasBitmap, Shader.TileMode.CLAMP, Shader.TileMode.CLAMP));
+            spriteShaderBitmap = atlasBitmap;
+        }
+        final int spritesCount = pointsBufferSize / 2;
+        if (spriteVertices.length < spritesCount * 12) {
+            spriteVertices = new float[pointsBuffer.length * 6];
+            spriteTextureCoordinates = new float[pointsBuffer.length * 6];
+        }
+        final float halfWidth = sprite.width() / 2f;
+        final float halfHeight = sprite.height() / 2f;
+        int position = 0;
+        for (int i = 0; i < pointsBufferSize; i += 2) {
+            // Round position to whole pixels so sprite is copied without filtering.
+            final int left = Math.round(pointsBuffer[i] - halfWidth);
+            final int top = Math.round(pointsBuffer[i + 1] - halfHeight);
+            setSpriteQuad(spriteVertices, position, left, top, left + sprite.width(), top + sprite.height());
+            setSpriteQuad(spriteTextureCoordinates, position, sprite.left, sprite.top, sprite.right, sprite.bottom);
+            position += 12;
+        }
+        canvas.drawVertices(Canvas.VertexMode.TRIANGLES, position, spriteVertices, 0, spriteTextureCoordinates, 0,
+                null, 0, null, 0, 0, spritePaint);
+        return true;
     }
 
-    private void drawPoint(Canvas canvas, Line line, PointValue pointValue, float rawX, float rawY,
-                           float pointRadius) {
+    /**
+     * Sets two triangles of rectangle starting at given position of array.
+     */
+    private static void setSpriteQuad(float[] array, int position, float left, float top, float right,
+                                      float bottom) {
+        array[position] = left;
+        array[position + 1] = top;
+        array[position + 2] = right;
+        array[position + 3] = top;
+        array[position + 4] = left;
+        array[position + 5] = bottom;
+        array[position + 6] = right;
+        array[position + 7] = top;
+        array[position + 8] = right;
+        array[position + 9] = bottom;
+        array[position + 10] = left;
+        array[position + 11] = bottom;
+    }
+
+    private void drawPoint(Canvas canvas, Line line, float rawX, float rawY, float pointRadius) {
         if (ValueShape.SQUARE.equals(line.getShape())) {
             canvas.drawRect(rawX - pointRadius, rawY - pointRadius, rawX + pointRadius, rawY + pointRadius,
                     pointPaint);
         } else if (ValueShape.CIRCLE.equals(line.getShape())) {
             canvas.drawCircle(rawX, rawY, pointRadius, pointPaint);
         } else if (ValueShape.DIAMOND.equals(line.getShape())) {
-            canvas.save();
-            canvas.rotate(45, rawX, rawY);
-            canvas.drawRect(rawX - pointRadius, rawY - pointRadius, rawX + pointRadius, rawY + pointRadius,
-                    pointPaint);
-            canvas.restore();
+            addDiamond(pointsPath, rawX, rawY, pointRadius);
+            canvas.drawPath(pointsPath, pointPaint);
+            pointsPath.reset();
         } else {
             throw new IllegalArgumentException("Invalid point shape: " + line.getShape());
         }
     }
 
+    /**
+     * Adds diamond marker to path, diamond is square with half of side equal to pointRadius rotated by 45 degrees.
+     */
+    private void addDiamond(Path path, float rawX, float rawY, float pointRadius) {
+        final float extent = pointRadius * SQRT_2;
+        path.moveTo(rawX, rawY - extent);
+        path.lineTo(rawX + extent, rawY);
+        path.lineTo(rawX, rawY + extent);
+        path.lineTo(rawX - extent, rawY);
+        path.close();
+    }
+
     private void highlightPoints(Canvas canvas) {
         int lineIndex = selectedValue.getFirstIndex();
         Line line = dataProvider.getLineChartData().getLines().get(lineIndex);
         drawPoints(canvas, line, lineIndex, MODE_HIGHLIGHT);
     }
 
-    private void highlightPoint(Canvas canvas, Line line, PointValue pointValue, float rawX, float rawY, int lineIndex,
-                                int valueIndex) {
+    private void drawCrosshair(Canvas canvas) {
+        final Rect contentRect = computator.getContentRectMinusAllMargins();
+        final float rawX = computator.computeRawX(crosshairSelection.getX());
+        canvas.drawLine(rawX, contentRect.top, rawX, contentRect.bottom, crosshairPaint);
+        final List<Line> lines = dataProvider.getLineChartData().getLines();
+        final int linesCount = Math.min(lines.size(), crosshairSelection.getLinesCount());
+        for (int lineIndex = 0; lineIndex < linesCount; ++lineIndex) {
+            if (crosshairSelection.hasValue(lineIndex)) {
+                final Line line = lines.get(lineIndex);
+                final int pointRadius = ChartUtils.dp2px(density, line.getPointRadius());
+                pointPaint.setColor(line.getDarkenColor());
+                drawPoint(canvas, line, computator.computeRawX(crosshairSelection.getValueX(lineIndex)),
+                        computator.computeRawY(crosshairSelection.getValueY(lineIndex)), pointRadius);
+            }
+        }
+    }
+
+    private void highlightPoint(Canvas canvas, Line line, float rawX, float rawY, int lineIndex, int valueIndex) {
         if (selectedValue.getFirstIndex() == lineIndex && selectedValue.getSecondIndex() == valueIndex) {
             int pointRadius = ChartUtils.dp2px(density, line.getPointRadius());
             pointPaint.setColor(line.getDarkenColor());
-            drawPoint(canvas, line, pointValue, rawX, rawY, pointRadius + touchToleranceMargin);
+            drawPoint(canvas, line, rawX, rawY, pointRadius + touchToleranceMargin);
             if (line.hasLabels() || line.hasLabelsOnlyForSelected()) {
-                drawLabel(canvas, line, pointValue, rawX, rawY, pointRadius + labelOffset);
+                drawLabel(canvas, line, valueIndex, rawX, rawY, pointRadius + labelOffset);
             }
         }
     }
 
-    private void drawLabel(Canvas canvas, Line line, PointValue pointValue, float rawX, float rawY, float offset) {
+    private void drawLabel(Canvas canvas, Line line, int valueIndex, float rawX, float rawY, float offset) {
         final Rect contentRect = computator.getContentRectMinusAllMargins();
+        final PointValue pointValue = line.getSeries().getValue(valueIndex, labelValue);
         final int numChars = line.getFormatter().formatChartValue(labelBuffer, pointValue);
         if (numChars == 0) {
             // No need to draw empty label
@@ -476,39 +1304,359 @@ public class LineChartRenderer extends AbstractChartRenderer {
                 line.getDarkenColor());
     }
 
-    private void drawArea(Canvas canvas, Line line) {
-        final int lineSize = line.getValues().size();
-        if (lineSize < 2) {
+    /**
+     * Builds area path by closing copy of line path at base value. Base is clamped to content rect extended by its
+     * height on each side, edges are clipped anyway and that way area can be transformed during gestures.
+     */
+    private void buildAreaPath(PointSeries series, Path linePath, Path areaPath) {
+        if (visibleToIndex - visibleFromIndex < 2) {
             //No point to draw area for one point or empty line.
             return;
         }
 
+        final float baseRawValue = calculateAreaBaseRawValue();
+        //That works only if the last point is the right most one.
+        final float left = computeRawX(series, visibleFromIndex);
+        final float right = computeRawX(series, visibleToIndex - 1);
+
+        areaPath.set(linePath);
+        areaPath.lineTo(right, baseRawValue);
+        areaPath.lineTo(left, baseRawValue);
+        areaPath.close();
+    }
+
+    private float calculateAreaBaseRawValue() {
         final Rect contentRect = computator.getContentRectMinusAllMargins();
-        final float baseRawValue = Math.min(contentRect.bottom, Math.max(computator.computeRawY(baseValue),
-                contentRect.top));
-        //That checks works only if the last point is the right most one.
-        final float left = Math.max(computator.computeRawX(line.getValues().get(0).getX()), contentRect.left);
-        final float right = Math.min(computator.computeRawX(line.getValues().get(lineSize - 1).getX()),
-                contentRect.right);
-
-        path.lineTo(right, baseRawValue);
-        path.lineTo(left, baseRawValue);
-        path.close();
+        return Math.min(contentRect.bottom + contentRect.height(),
+                Math.max(computator.computeRawY(baseValue), contentRect.top - contentRect.height()));
+    }
+
+    /**
+     * Builds triangle strip between visible values and base value, every value adds vertex on the line and vertex
+     * below(or above) it on base, square lines add two such pairs per value.
+     */
+    private void buildAreaMesh(PointSeries series, boolean isSquare, LinePathCache pathCache) {
+        final int valuesCount = visibleToIndex - visibleFromIndex;
+        if (valuesCount < 2) {
+            return;
+        }
+        final int verticesCount = isSquare ? (valuesCount * 2 - 1) * 4 : valuesCount * 4;
+        if (pathCache.areaVertices.length < verticesCount) {
+            pathCache.areaVertices = new float[verticesCount];
+        }
+        final float[] vertices = pathCache.areaVertices;
+        final float baseRawValue = calculateAreaBaseRawValue();
+        int position = 0;
+        float previousRawY = 0;
+        for (int valueIndex = visibleFromIndex; valueIndex < visibleToIndex; ++valueIndex) {
+            final float rawX = computeRawX(series, valueIndex);
+            final float rawY = computeRawY(series, valueIndex);
+            if (isSquare && valueIndex > visibleFromIndex) {
+                vertices[position++] = rawX;
+                vertices[position++] = previousRawY;
+                vertices[position++] = rawX;
+                vertices[position++] = baseRawValue;
+            }
+            vertices[position++] = rawX;
+            vertices[position++] = rawY;
+            vertices[position++] = rawX;
+            vertices[position++] = baseRawValue;
+            previousRawY = rawY;
+        }
+        pathCache.areaVerticesCount = verticesCount;
+    }
+
+    /**
+     * Returns true if canvas.drawVertices() is supported, hardware accelerated canvas ignores it.
+     */
+    private boolean canDrawVertices(Canvas canvas) {
+        return Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB || !canvas.isHardwareAccelerated();
+    }
+
+    /**
+     * Draws area as triangle strip, gradient to transparent is done with per-vertex colors that have the same alpha
+     * as gradient shader would have at vertex position.
+     */
+    private void drawAreaMesh(Canvas canvas, Line line, LinePathCache pathCache, boolean isTransformed) {
+        final int verticesCount = pathCache.areaVerticesCount;
+        float[] vertices = pathCache.areaVertices;
+        if (isTransformed) {
+            if (areaVerticesBuffer.length < verticesCount) {
+                areaVerticesBuffer = new float[verticesCount];
+            }
+            pathMatrix.mapPoints(areaVerticesBuffer, 0, vertices, 0, verticesCount / 2);
+            vertices = areaVerticesBuffer;
+        }
+
+        linePaint.setStyle(Paint.Style.FILL);
+        int[] colors = null;
+        if (line.getGradientToTransparent()) {
+            if (areaColorsBuffer.length < verticesCount / 2) {
+                areaColorsBuffer = new int[verticesCount / 2];
+            }
+            colors = areaColorsBuffer;
+            final int color = line.getColor();
+            final int rgb = color & 0x00ffffff;
+            final float alpha = line.getAreaTransparency() * Color.alpha(color) / 255f;
+            final float height = canvas.getHeight();
+            for (int i = 0; i < verticesCount / 2; ++i) {
+                final float fraction = Math.min(Math.max(vertices[i * 2 + 1] / height, 0), 1);
+                colors[i] = ((int) (alpha * (1 - fraction)) << 24) | rgb;
+            }
+            // Vertex colors already contain area transparency.
+            linePaint.setAlpha(255);
+        } else {
+            linePaint.setAlpha(line.getAreaTransparency());
+        }
+        canvas.drawVertices(Canvas.VertexMode.TRIANGLE_STRIP, verticesCount, vertices, 0, null, 0, colors, 0, null,
+                0, 0, linePaint);
+        linePaint.setStyle(Paint.Style.STROKE);
+    }
 
+    private void drawArea(Canvas canvas, Line line, Path areaPath, LinePathCache pathCache) {
         linePaint.setStyle(Paint.Style.FILL);
         linePaint.setAlpha(line.getAreaTransparency());
-        linePaint.setShader(line.getGradientToTransparent() ?
-                new LinearGradient(0, 0, 0, canvas.getHeight(), line.getColor(),
-                        line.getColor() & 0x00ffffff, Shader.TileMode.MIRROR) :
+        linePaint.setShader(line.getGradientToTransparent() ? getAreaShader(line, pathCache, canvas.getHeight()) :
                 null);
-        canvas.drawPath(path, linePaint);
+        canvas.drawPath(areaPath, linePaint);
         linePaint.setStyle(Paint.Style.STROKE);
     }
 
-    private boolean isInArea(float x, float y, float touchX, float touchY, float radius) {
-        float diffX = touchX - x;
-        float diffY = touchY - y;
-        return Math.pow(diffX, 2) + Math.pow(diffY, 2) <= 2 * Math.pow(radius, 2);
+    /**
+     * Returns gradient to transparent shader for line area, shader is created only when line color or canvas height
+     * changes.
+     */
+    private Shader getAreaShader(Line line, LinePathCache pathCache, int height) {
+        if (null == pathCache.areaShader || pathCache.areaShaderColor != line.getColor()
+                || pathCache.areaShaderHeight != height) {
+            pathCache.areaShader = new LinearGradient(0, 0, 0, height, line.getColor(),
+                    line.getColor() & 0x00ffffff, Shader.TileMode.MIRROR);
+            pathCache.areaShaderColor = line.getColor();
+            pathCache.areaShaderHeight = height;
+        }
+        return pathCache.areaShader;
+    }
+
+    /**
+     * Returns number of values that were not added to paths during the last draw because of per pixel aggregation,
+     * see {@link Line#setAggregated(boolean)}.
+     */
+    public int getSkippedValuesCount() {
+        return skippedValuesCount;
+    }
+
+    /**
+     * @see #setLinesBatchingEnabled(boolean)
+     */
+    public boolean isLinesBatchingEnabled() {
+        return isLinesBatchingEnabled;
+    }
+
+    /**
+     * Enables lines batching mode, in that mode straight lines that are not filled, aggregated or dashed are drawn
+     * with canvas.drawLines() instead of path, segments of consecutive lines with the same color and stroke width are
+     * drawn with single call. That's much faster for many thin lines but joins of segments are not as smooth as path
+     * joins. Disabled by default.
+     */
+    public void setLinesBatchingEnabled(boolean isLinesBatchingEnabled) {
+        this.isLinesBatchingEnabled = isLinesBatchingEnabled;
+    }
+
+    /**
+     * @see #setPointSpritesEnabled(boolean)
+     */
+    public boolean isPointSpritesEnabled() {
+        return null != pointSpriteAtlas;
+    }
+
+    /**
+     * Enables point sprites, every combination of point shape, color and radius is drawn once into small atlas bitmap
+     * and all markers of line are drawn as textured triangles with single canvas.drawVertices() call. Markers are
+     * positioned with whole pixel precision. Hardware accelerated canvas doesn't support drawVertices() so there
+     * markers are batched with canvas.drawPoints() as if sprites were disabled, unless chart is drawn on software
+     * layer because of {@link #setAreaMeshEnabled(boolean)}. Disabled by default.
+     */
+    public void setPointSpritesEnabled(boolean isPointSpritesEnabled) {
+        if (isPointSpritesEnabled && null == pointSpriteAtlas) {
+            pointSpriteAtlas = new PointSpriteAtlas();
+        } else if (!isPointSpritesEnabled && null != pointSpriteAtlas) {
+            pointSpriteAtlas.clear();
+            pointSpriteAtlas = null;
+            releaseSpriteShader();
+        }
+    }
+
+    /**
+     * Drops shader that references atlas bitmap, new one is created for new atlas bitmap.
+     */
+    private void releaseSpriteShader() {
+        spritePaint.setShader(null);
+        spriteShaderBitmap = null;
+    }
+
+    /**
+     * @see #setAreaMeshEnabled(boolean)
+     */
+    public boolean isAreaMeshEnabled() {
+        return isAreaMeshEnabled;
+    }
+
+    /**
+     * Enables area mesh mode, in that mode area of filled straight and square lines is drawn as triangle strip with
+     * canvas.drawVertices() instead of filling closed path. Gradient to transparent is done with per-vertex alpha.
+     * Cubic and aggregated lines still use path. Hardware accelerated canvas doesn't support drawVertices() so in that
+     * case area mesh is not used and area is filled with cached path. Disabled by default.
+     */
+    public void setAreaMeshEnabled(boolean isAreaMeshEnabled) {
+        this.isAreaMeshEnabled = isAreaMeshEnabled;
+        // Cached paths have to be rebuilt with or without mesh.
+        pathCaches.clear();
+    }
+
+    /**
+     * @see #setCubicFlatteningThreshold(float)
+     */
+    public float getCubicFlatteningThreshold() {
+        return cubicFlatteningThreshold;
+    }
+
+    /**
+     * Set length in pixels below which segments of cubic lines are drawn as straight lines, default is 1dp. Pass 0 to
+     * always draw cubic segments.
+     */
+    public void setCubicFlatteningThreshold(float cubicFlatteningThreshold) {
+        if (cubicFlatteningThreshold < 0) {
+            cubicFlatteningThreshold = 0;
+        }
+        this.cubicFlatteningThreshold = cubicFlatteningThreshold;
+        // Cached paths have to be rebuilt.
+        pathCaches.clear();
+    }
+
+    /**
+     * @see #setLevelOfDetailMemoryBudget(long)
+     */
+    public long getLevelOfDetailMemoryBudget() {
+        return levelOfDetailMemoryBudget;
+    }
+
+    /**
+     * Set maximum number of bytes used by level of detail pyramids of all lines, budget is split equally between lines
+     * with level of detail. Default is 16MB.
+     *
+     * @see Line#setHasLevelOfDetail(boolean)
+     */
+    public void setLevelOfDetailMemoryBudget(long levelOfDetailMemoryBudget) {
+        if (levelOfDetailMemoryBudget < 0) {
+            levelOfDetailMemoryBudget = 0;
+        }
+        this.levelOfDetailMemoryBudget = levelOfDetailMemoryBudget;
+    }
+
+    /**
+     * @see #setFollowTailWidth(float)
+     */
+    public float getFollowTailWidth() {
+        return followTailWidth;
+    }
+
+    /**
+     * Enables follow tail mode, every time viewport is recalculated current viewport is set to the last
+     * followTailWidth units of X(but not less than maximum viewport width / maxZoom). Useful with
+     * {@link RingPointSeries} for live charts. Pass 0 to disable follow tail mode.
+     */
+    public void setFollowTailWidth(float followTailWidth) {
+        if (followTailWidth < 0) {
+            followTailWidth = 0;
+        }
+        this.followTailWidth = followTailWidth;
     }
 
+    /**
+     * @see #setCrosshairEnabled(boolean)
+     */
+    public boolean isCrosshairEnabled() {
+        return isCrosshairEnabled;
+    }
+
+    /**
+     * Enable crosshair mode, in that mode touched X position is tracked with vertical line and value of every line at
+     * that position is highlighted, see {@link #moveCrosshair(float)}. Disabled by default.
+     */
+    public void setCrosshairEnabled(boolean isCrosshairEnabled) {
+        this.isCrosshairEnabled = isCrosshairEnabled;
+        if (!isCrosshairEnabled) {
+            crosshairSelection.clear();
+        }
+    }
+
+    /**
+     * @see #setCrosshairInterpolated(boolean)
+     */
+    public boolean isCrosshairInterpolated() {
+        return isCrosshairInterpolated;
+    }
+
+    /**
+     * If true crosshair reports values linearly interpolated at crosshair X, otherwise it reports the nearest value
+     * of every line. Interpolation works only for lines sorted by X, for other lines the nearest value is reported.
+     * Default is false.
+     */
+    public void setCrosshairInterpolated(boolean isCrosshairInterpolated) {
+        this.isCrosshairInterpolated = isCrosshairInterpolated;
+    }
+
+    public int getCrosshairColor() {
+        return crosshairPaint.getColor();
+    }
+
+    public void setCrosshairColor(int crosshairColor) {
+        crosshairPaint.setColor(crosshairColor);
+    }
+
+    /**
+     * Bezier control points of cubic line segments of values range [fromIndex, toIndex) in data space, see
+     * {@link #prepareControlPoints(int, PointSeries, int)}.
+     */
+    private static class ControlPointsCache {
+        private float[] points = new float[0];
+        private PointSeries series;
+        private int fromIndex;
+        private int toIndex;
+        private int size;
+        private int dataVersion;
+        private int seriesVersion;
+    }
+
+    /**
+     * Paths of single line built for viewport and content rect stored in cache, see
+     * {@link #drawLine(Canvas, Line, int)}.
+     */
+    private static class LinePathCache {
+        private Path linePath = new Path();
+        private Path areaPath = new Path();
+        /**
+         * Area triangle strip vertices, 2 floats per vertex, see {@link #buildAreaMesh(PointSeries, boolean,
+         * LinePathCache)}.
+         */
+        private float[] areaVertices = new float[0];
+        private int areaVerticesCount;
+        private Shader areaShader;
+        private int areaShaderColor;
+        private int areaShaderHeight;
+        private Viewport viewport = new Viewport();
+        private Rect contentRect = new Rect();
+        private PointSeries series;
+        private int flags;
+        private int dataVersion;
+        private int seriesVersion;
+        private int transformationVersion;
+        /**
+         * Range of X values covered by paths.
+         */
+        private float coverageLeft;
+        private float coverageRight;
+        private int skippedValuesCount;
+        private boolean isValid;
+    }
 }
@@ -0,0 +1,66 @@
+package lecho.lib.hellocharts.renderer;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.PorterDuff;
+
+import lecho.lib.hellocharts.util.BitmapPool;
+
+/**
+ * Software offscreen layer used by renderers that need compositing which is not possible on view canvas. Layer bitmap
+ * is taken from {@link BitmapPool} on first use and returned there by {@link #release()}.
+ */
+public class OffscreenLayer {
+    private Bitmap bitmap;
+    private Canvas canvas;
+
+    /**
+     * Returns cleared canvas of layer with at least given size, returns null if size is empty(i.e. in layout editor),
+     * in that case caller should draw directly on view canvas.
+     */
+    public Canvas begin(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+        if (null != bitmap && (bitmap.getWidth() < width || bitmap.getHeight() < height)) {
+            release();
+        }
+        if (null == bitmap) {
+            bitmap = BitmapPool.acquire(width, height);
+            canvas = new Canvas(bitmap);
+        }
+        canvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+        return canvas;
+    }
+
+    /**
+     * Draws layer content on given canvas.
+     */
+    public void end(Canvas target) {
+        end(target, null);
+    }
+
+    /**
+     * Draws layer content on given canvas using given paint, paint can be null.
+     */
+    public void end(Canvas target, Paint paint) {
+        target.drawBitmap(bitmap, 0, 0, paint);
+    }
+
+    /**
+     * Returns layer bitmap to pool, next call to {@link #begin(int, int)} will take bitmap from pool again.
+     */
+    public void release() {
+        if (null != bitmap) {
+            BitmapPool.release(bitmap);
+            bitmap = null;
+            canvas = null;
+        }
+    }
+
+    public boolean isAllocated() {
+        return null != bitmap;
+    }
+}
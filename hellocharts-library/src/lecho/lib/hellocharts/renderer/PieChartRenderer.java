@@ -1,19 +1,19 @@
 package lecho.lib.hellocharts.renderer;
 
 import android.content.Context;
-import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Paint.Align;
 import android.graphics.Paint.FontMetricsInt;
+import android.graphics.Path;
 import android.graphics.PointF;
-import android.graphics.PorterDuff;
-import android.graphics.PorterDuffXfermode;
 import android.graphics.Rect;
 import android.graphics.RectF;
 import android.text.TextUtils;
 
+import java.util.List;
+
 import lecho.lib.hellocharts.formatter.PieChartValueFormatter;
 import lecho.lib.hellocharts.model.PieChartData;
 import lecho.lib.hellocharts.model.SelectedValue;
@@ -36,9 +36,11 @@ public class PieChartRenderer extends AbstractChartRenderer {
     private static final int DEFAULT_TOUCH_ADDITIONAL_DP = 8;
     private static final int MODE_DRAW = 0;
     private static final int MODE_HIGHLIGHT = 1;
+    private static final float SQRT_2 = (float) Math.sqrt(2);
     private int rotation = DEFAULT_START_ROTATION;
     private PieChartDataProvider dataProvider;
     private Paint slicePaint = new Paint();
+    private Path slicePath = new Path();
     private float maxSum;
     private RectF originCircleOval = new RectF();
     private RectF drawCircleOval = new RectF();
@@ -56,17 +58,67 @@ public class PieChartRenderer extends AbstractChartRenderer {
     // Text2
     private Paint centerCircleText2Paint = new Paint();
     private FontMetricsInt centerCircleText2FontMetrics = new FontMetricsInt();
-    // Separation lines
-    private Paint separationLinesPaint = new Paint();
-
     private boolean hasLabelsOutside;
     private boolean hasLabels;
     private boolean hasLabelsOnlyForSelected;
     private PieChartValueFormatter valueFormatter;
     private Viewport tempMaximumViewport = new Viewport();
 
-    private Bitmap softwareBitmap;
-    private Canvas softwareCanvas = new Canvas();
+    /**
+     * Geometry of slices for rotation 0, recalculated only when values change, see
+     * {@link #calculateSlicesGeometry()}. Slice i starts at sliceStartAngles[i] degrees and ends at
+     * sliceStartAngles[i + 1], vectors are unit vectors of slice middle angles.
+     */
+    private int slicesCount;
+    private float[] sliceStartAngles = new float[1];
+    private float[] sliceMiddleVectorsX = new float[0];
+    private float[] sliceMiddleVectorsY = new float[0];
+    /**
+     * Label anchors relative to circle center for rotation 0, valid for {@link #labelAnchorsRadius}.
+     */
+    private float[] labelAnchorsX = new float[0];
+    private float[] labelAnchorsY = new float[0];
+    private float labelAnchorsRadius = Float.NaN;
+    /**
+     * Cosine and sine of current rotation, used to rotate cached vectors.
+     */
+    private float rotationCos;
+    private float rotationSin;
+
+    /**
+     * Slices aggregation, see {@link PieChartData#setAggregationThreshold(float)}. Slices are drawn for not aggregated
+     * values in values order and for "other" value at the end, sliceValueIndexes maps slice index to value index
+     * (values count for "other" slice) and valueSliceIndexes maps value index to slice index(-1 for aggregated value,
+     * last element is index of "other" slice). Absolute values and flags of values below threshold are kept to
+     * recalculate only what changed, see {@link #calculateSlicesGeometry()}.
+     */
+    private int valuesCount;
+    private float[] absValues = new float[0];
+    private boolean[] isValueBelowThreshold = new boolean[0];
+    private float aggregationThreshold;
+    /**
+     * Template from chart data, its color and label are copied to renderer own "other" value so template is never
+     * modified.
+     */
+    private SliceValue otherSliceTemplate;
+    private SliceValue otherSliceValue = new SliceValue();
+    private float otherSum;
+    private int aggregatedValuesCount;
+    private int[] aggregatedValueIndexes = new int[0];
+    private int[] sliceValueIndexes = new int[0];
+    private int[] valueSliceIndexes = new int[]{-1};
+
+    /**
+     * Layer with slices and center circle rendered for {@link #rotationLayerRotation}, used while rotation is in
+     * progress, see {@link #setRotationLayerEnabled(boolean)}.
+     */
+    private boolean isRotationLayerEnabled = false;
+    private boolean isRotationInProgress;
+    private OffscreenLayer rotationLayer = new OffscreenLayer();
+    private boolean isRotationLayerValid;
+    private int rotationLayerRotation;
+    private RectF rotationLayerCircleOval = new RectF();
+    private Paint rotationLayerPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
 
     public PieChartRenderer(Context context, Chart chart, PieChartDataProvider dataProvider) {
         super(context, chart);
@@ -78,7 +130,6 @@ public class PieChartRenderer extends AbstractChartRenderer {
 
         centerCirclePaint.setAntiAlias(true);
         centerCirclePaint.setStyle(Paint.Style.FILL);
-        centerCirclePaint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.SRC));
 
         centerCircleText1Paint.setAntiAlias(true);
         centerCircleText1Paint.setTextAlign(Align.CENTER);
@@ -86,22 +137,19 @@ public class PieChartRenderer extends AbstractChartRenderer {
         centerCircleText2Paint.setAntiAlias(true);
         centerCircleText2Paint.setTextAlign(Align.CENTER);
 
-        separationLinesPaint.setAntiAlias(true);
-        separationLinesPaint.setStyle(Paint.Style.STROKE);
-        separationLinesPaint.setStrokeCap(Paint.Cap.ROUND);
-        separationLinesPaint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.CLEAR));
-        separationLinesPaint.setColor(Color.TRANSPARENT);
+        setChartRotation(DEFAULT_START_ROTATION);
     }
 
     @Override
     public void onChartSizeChanged() {
         calculateCircleOval();
+        // Layer will be taken from pool again with new size if it's needed.
+        releaseRotationLayer();
+    }
 
-        if (computator.getChartWidth() > 0 && computator.getChartHeight() > 0) {
-            softwareBitmap = Bitmap.createBitmap(computator.getChartWidth(), computator.getChartHeight(),
-                    Bitmap.Config.ARGB_8888);
-            softwareCanvas.setBitmap(softwareBitmap);
-        }
+    @Override
+    public void onChartDetachedFromWindow() {
+        releaseRotationLayer();
     }
 
     @Override
@@ -128,6 +176,8 @@ public class PieChartRenderer extends AbstractChartRenderer {
         centerCircleText2Paint.setColor(data.getCenterText2Color());
         centerCircleText2Paint.getFontMetricsInt(centerCircleText2FontMetrics);
 
+        calculateSlicesGeometry();
+        isRotationLayerValid = false;
         onChartViewportChanged();
     }
 
@@ -140,34 +190,88 @@ public class PieChartRenderer extends AbstractChartRenderer {
         }
     }
 
+    @Override
+    public void onChartValuesChanged() {
+        super.onChartValuesChanged();
+        calculateSlicesGeometry();
+        isRotationLayerValid = false;
+    }
+
+    /**
+     * Draws slices as ring segments with gaps directly on given canvas, center circle is a hole in every slice so
+     * nothing has to be cut out with Xfermodes. While rotation is in progress and rotation layer is enabled slices
+     * and center circle are drawn from rotated layer, labels and center text are always drawn upright.
+     */
     @Override
     public void draw(Canvas canvas) {
-        // softwareBitmap can be null if chart is rendered in layout editor. In that case use default canvas and not
-        // softwareCanvas.
-        final Canvas drawCanvas;
-        if (null != softwareBitmap) {
-            drawCanvas = softwareCanvas;
-            drawCanvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
-        } else {
-            drawCanvas = canvas;
+        if (!isRotationLayerEnabled || !isRotationInProgress || !drawRotationLayer(canvas)) {
+            releaseRotationLayer();
+            drawSlices(canvas);
+            if (hasCenterCircle) {
+                drawCenterCircle(canvas);
+            }
         }
-
-        drawSlices(drawCanvas);
-        drawSeparationLines(drawCanvas);
         if (hasCenterCircle) {
-            drawCenterCircle(drawCanvas);
+            drawCenterCircleText(canvas);
         }
-        drawLabels(drawCanvas);
+        drawLabels(canvas);
+    }
 
-        if (null != softwareBitmap) {
-            canvas.drawBitmap(softwareBitmap, 0, 0, null);
+    /**
+     * Draws slices and center circle from rotation layer rotated by difference between current rotation and rotation
+     * for which layer was rendered, renders layer first if it's not valid. Returns false if layer can't be allocated.
+     */
+    private boolean drawRotationLayer(Canvas canvas) {
+        if (!isRotationLayerValid || !rotationLayerCircleOval.equals(originCircleOval)) {
+            final Canvas layerCanvas = rotationLayer.begin(computator.getChartWidth(), computator.getChartHeight());
+            if (null == layerCanvas) {
+                return false;
+            }
+            drawSlices(layerCanvas);
+            if (hasCenterCircle) {
+                drawCenterCircle(layerCanvas);
+            }
+            rotationLayerRotation = rotation;
+            rotationLayerCircleOval.set(originCircleOval);
+            isRotationLayerValid = true;
         }
+        final int restoreCount = canvas.save();
+        canvas.rotate(rotation - rotationLayerRotation, originCircleOval.centerX(), originCircleOval.centerY());
+        rotationLayer.end(canvas, rotationLayerPaint);
+        canvas.restoreToCount(restoreCount);
+        return true;
+    }
+
+    private void releaseRotationLayer() {
+        isRotationLayerValid = false;
+        rotationLayer.release();
     }
 
     @Override
     public void drawUnclipped(Canvas canvas) {
     }
 
+    @Override
+    public void drawHighlight(Canvas canvas) {
+        if (!isTouched()) {
+            return;
+        }
+        final int valueIndex = selectedValue.getFirstIndex();
+        if (valueIndex < 0 || valueIndex > valuesCount) {
+            return;
+        }
+        final int sliceIndex = valueSliceIndexes[valueIndex];
+        if (sliceIndex < 0) {
+            return;
+        }
+        final SliceValue sliceValue = getSliceValue(sliceIndex);
+        drawSlice(canvas, sliceValue, sliceIndex, MODE_HIGHLIGHT);
+        if (hasLabels || hasLabelsOnlyForSelected) {
+            prepareLabelAnchors();
+            drawLabel(canvas, sliceValue, sliceIndex);
+        }
+    }
+
     @Override
     public boolean checkTouch(float touchX, float touchY) {
         selectedValue.clear();
@@ -190,32 +294,57 @@ public class PieChartRenderer extends AbstractChartRenderer {
         // adding 360
         // and modulo 360 translates i.e -20 degrees to 340 degrees.
         final float touchAngle = (pointToAngle(touchX, touchY, centerX, centerY) - rotation + 360f) % 360f;
-        final float sliceScale = 360f / maxSum;
-        float lastAngle = 0f; // No start angle here, see above
-        int sliceIndex = 0;
-        for (SliceValue sliceValue : data.getValues()) {
-            final float angle = Math.abs(sliceValue.getValue()) * sliceScale;
-            if (touchAngle >= lastAngle) {
-                selectedValue.set(sliceIndex, sliceIndex, SelectedValueType.NONE);
-            }
-            lastAngle += angle;
-            ++sliceIndex;
+        final int sliceIndex = findSliceIndex(touchAngle);
+        if (sliceIndex >= 0) {
+            final int valueIndex = sliceValueIndexes[sliceIndex];
+            selectedValue.set(valueIndex, valueIndex, SelectedValueType.NONE);
         }
         return isTouched();
     }
 
     /**
-     * Draw center circle with text if {@link PieChartData#hasCenterCircle()} is set true.
+     * Returns index of slice that contains given angle measured from start of the first slice, or -1 if there are no
+     * slices. Slice is found by binary search of slices start angles, empty slices are never returned unless all
+     * slices are empty.
+     */
+    private int findSliceIndex(float angle) {
+        if (slicesCount == 0) {
+            return -1;
+        }
+        // Find the last slice with start angle less or equal to given angle.
+        int low = 0;
+        int high = slicesCount;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (sliceStartAngles[middle] <= angle) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return Math.max(low - 1, 0);
+    }
+
+    /**
+     * Draw center circle if {@link PieChartData#hasCenterCircle()} is set true. Slices already have a hole in the
+     * center so transparent circle is not drawn at all.
      */
     private void drawCenterCircle(Canvas canvas) {
+        if (Color.alpha(centerCirclePaint.getColor()) != 0) {
+            final float centerRadius = originCircleOval.width() / 2f * centerCircleScale;
+            canvas.drawCircle(originCircleOval.centerX(), originCircleOval.centerY(), centerRadius,
+                    centerCirclePaint);
+        }
+    }
+
+    /**
+     * Draw text of center circle, text is always drawn upright so it's not part of rotation layer.
+     */
+    private void drawCenterCircleText(Canvas canvas) {
         final PieChartData data = dataProvider.getPieChartData();
-        final float circleRadius = originCircleOval.width() / 2f;
-        final float centerRadius = circleRadius * data.getCenterCircleScale();
         final float centerX = originCircleOval.centerX();
         final float centerY = originCircleOval.centerY();
 
-        canvas.drawCircle(centerX, centerY, centerRadius, centerCirclePaint);
-
         // Draw center text1 and text2 if not empty.
         if (!TextUtils.isEmpty(data.getCenterText1())) {
 
@@ -233,109 +362,111 @@ public class PieChartRenderer extends AbstractChartRenderer {
     }
 
     /**
-     * Draw all slices for this PieChart, if mode == {@link #MODE_HIGHLIGHT} currently selected slices will be redrawn
-     * and
-     * highlighted.
-     *
-     * @param canvas
+     * Draw all slices for this PieChart, selected slice is drawn again on top of them by
+     * {@link #drawHighlight(Canvas)}.
      */
     private void drawSlices(Canvas canvas) {
-        final PieChartData data = dataProvider.getPieChartData();
-        final float sliceScale = 360f / maxSum;
-        float lastAngle = rotation;
-        int sliceIndex = 0;
-        for (SliceValue sliceValue : data.getValues()) {
-            final float angle = Math.abs(sliceValue.getValue()) * sliceScale;
-            if (isTouched() && selectedValue.getFirstIndex() == sliceIndex) {
-                drawSlice(canvas, sliceValue, lastAngle, angle, MODE_HIGHLIGHT);
-            } else {
-                drawSlice(canvas, sliceValue, lastAngle, angle, MODE_DRAW);
-            }
-            lastAngle += angle;
-            ++sliceIndex;
+        for (int sliceIndex = 0; sliceIndex < slicesCount; ++sliceIndex) {
+            drawSlice(canvas, getSliceValue(sliceIndex), sliceIndex, MODE_DRAW);
         }
     }
 
-    private void drawSeparationLines(Canvas canvas) {
-        final PieChartData data = dataProvider.getPieChartData();
-        if (data.getValues().size() < 2) {
-            //No need for separation lines for 0 or 1 slices.
-            return;
-        }
-        final int sliceSpacing = ChartUtils.dp2px(density, data.getSlicesSpacing());
-        if (sliceSpacing < 1) {
-            //No need for separation lines
+    /**
+     * Labels of all slices are drawn only if {@link PieChartData#hasLabels()} is true, label of selected slice is
+     * drawn by {@link #drawHighlight(Canvas)}.
+     */
+    public void drawLabels(Canvas canvas) {
+        if (!hasLabels) {
             return;
         }
-        final float sliceScale = 360f / maxSum;
-        float lastAngle = rotation;
-        final float circleRadius = originCircleOval.width() / 2f;
-        separationLinesPaint.setStrokeWidth(sliceSpacing);
-        for (SliceValue sliceValue : data.getValues()) {
-            final float angle = Math.abs(sliceValue.getValue()) * sliceScale;
-
-            sliceVector.set((float) (Math.cos(Math.toRadians(lastAngle))),
-                    (float) (Math.sin(Math.toRadians(lastAngle))));
-            normalizeVector(sliceVector);
-
-            float x1 = sliceVector.x * (circleRadius + touchAdditional) + originCircleOval.centerX();
-            float y1 = sliceVector.y * (circleRadius + touchAdditional) + originCircleOval.centerY();
-
-            canvas.drawLine(originCircleOval.centerX(), originCircleOval.centerY(), x1, y1, separationLinesPaint);
-
-            lastAngle += angle;
-        }
-    }
-
-    public void drawLabels(Canvas canvas) {
-        final PieChartData data = dataProvider.getPieChartData();
-        final float sliceScale = 360f / maxSum;
-        float lastAngle = rotation;
-        int sliceIndex = 0;
-        for (SliceValue sliceValue : data.getValues()) {
-            final float angle = Math.abs(sliceValue.getValue()) * sliceScale;
-            if (isTouched()) {
-                if (hasLabels) {
-                    drawLabel(canvas, sliceValue, lastAngle, angle);
-                } else if (hasLabelsOnlyForSelected && selectedValue.getFirstIndex() == sliceIndex) {
-                    drawLabel(canvas, sliceValue, lastAngle, angle);
-                }
-            } else {
-                if (hasLabels) {
-                    drawLabel(canvas, sliceValue, lastAngle, angle);
-                }
-            }
-            lastAngle += angle;
-            ++sliceIndex;
+        prepareLabelAnchors();
+        for (int sliceIndex = 0; sliceIndex < slicesCount; ++sliceIndex) {
+            drawLabel(canvas, getSliceValue(sliceIndex), sliceIndex);
         }
     }
 
     /**
-     * Method draws single slice from lastAngle to lastAngle+angle, if mode = {@link #MODE_HIGHLIGHT} slice will be
-     * darken
-     * and will have bigger radius.
+     * Method draws single slice, if mode = {@link #MODE_HIGHLIGHT} slice will be darken and will have bigger radius.
      */
-    private void drawSlice(Canvas canvas, SliceValue sliceValue, float lastAngle, float angle, int mode) {
-        sliceVector.set((float) (Math.cos(Math.toRadians(lastAngle + angle / 2))),
-                (float) (Math.sin(Math.toRadians(lastAngle + angle / 2))));
-        normalizeVector(sliceVector);
-        drawCircleOval.set(originCircleOval);
+    private void drawSlice(Canvas canvas, SliceValue sliceValue, int sliceIndex, int mode) {
+        final float circleRadius = originCircleOval.width() / 2f;
+        final float innerRadius = hasCenterCircle ? circleRadius * centerCircleScale : 0;
+        float outerRadius = circleRadius;
         if (MODE_HIGHLIGHT == mode) {
             // Add additional touch feedback by setting bigger radius for that slice and darken color.
-            drawCircleOval.inset(-touchAdditional, -touchAdditional);
+            outerRadius += touchAdditional;
             slicePaint.setColor(sliceValue.getDarkenColor());
-            canvas.drawArc(drawCircleOval, lastAngle, angle, true, slicePaint);
         } else {
             slicePaint.setColor(sliceValue.getColor());
-            canvas.drawArc(drawCircleOval, lastAngle, angle, true, slicePaint);
+        }
+        if (buildSlicePath(sliceIndex, outerRadius, innerRadius, calculateHalfSlicesSpacing())) {
+            canvas.drawPath(slicePath, slicePaint);
         }
     }
 
-    private void drawLabel(Canvas canvas, SliceValue sliceValue, float lastAngle, float angle) {
-        sliceVector.set((float) (Math.cos(Math.toRadians(lastAngle + angle / 2))),
-                (float) (Math.sin(Math.toRadians(lastAngle + angle / 2))));
-        normalizeVector(sliceVector);
+    /**
+     * Returns half of spacing between slices in pixels, 0 if there is no spacing.
+     */
+    private float calculateHalfSlicesSpacing() {
+        final int sliceSpacing = ChartUtils.dp2px(density, dataProvider.getPieChartData().getSlicesSpacing());
+        if (slicesCount < 2 || sliceSpacing < 1) {
+            return 0;
+        }
+        return sliceSpacing / 2f;
+    }
 
+    /**
+     * Builds {@link #slicePath} of given slice as ring segment between inner and outer radius, inner radius is 0 for
+     * pie without center circle. Slice edges are moved by halfSpacing towards slice middle so
+     * slice looks like it was cut by separation line of spacing width. Returns false if slice is not wider than
+     * spacing and there is nothing to draw.
+     */
+    private boolean buildSlicePath(int sliceIndex, float outerRadius, float innerRadius, float halfSpacing) {
+        final float startAngle = rotation + sliceStartAngles[sliceIndex];
+        final float angle = sliceStartAngles[sliceIndex + 1] - sliceStartAngles[sliceIndex];
+        slicePath.reset();
+        if (angle <= 0 || halfSpacing >= outerRadius) {
+            return false;
+        }
+        final float centerX = originCircleOval.centerX();
+        final float centerY = originCircleOval.centerY();
+        if (angle >= 360f && halfSpacing == 0) {
+            slicePath.addCircle(centerX, centerY, outerRadius, Path.Direction.CW);
+            if (innerRadius > 0) {
+                slicePath.addCircle(centerX, centerY, innerRadius, Path.Direction.CCW);
+            }
+            return true;
+        }
+        // Angle by which edge moved by halfSpacing is shifted at given radius.
+        final float outerInset = (float) Math.toDegrees(Math.asin(halfSpacing / outerRadius));
+        if (angle <= 2 * outerInset) {
+            return false;
+        }
+        drawCircleOval.set(centerX - outerRadius, centerY - outerRadius, centerX + outerRadius,
+                centerY + outerRadius);
+        slicePath.arcTo(drawCircleOval, startAngle + outerInset, angle - 2 * outerInset, true);
+        final float innerInset = innerRadius > halfSpacing
+                ? (float) Math.toDegrees(Math.asin(halfSpacing / innerRadius)) : 90f;
+        if (innerRadius > 0 && angle > 2 * innerInset) {
+            drawCircleOval.set(centerX - innerRadius, centerY - innerRadius, centerX + innerRadius,
+                    centerY + innerRadius);
+            slicePath.arcTo(drawCircleOval, startAngle + angle - innerInset, -(angle - 2 * innerInset));
+        } else {
+            // Moved edges meet on slice middle line, for slices wider than half of circle they don't meet so use
+            // point at the same distance as for quarter of circle.
+            final double halfAngleRadians = Math.toRadians(angle / 2);
+            float apexDistance = (float) (halfSpacing / Math.sin(halfAngleRadians));
+            if (angle > 180f) {
+                apexDistance = Math.min(apexDistance, halfSpacing * SQRT_2);
+            }
+            rotateVector(sliceMiddleVectorsX[sliceIndex], sliceMiddleVectorsY[sliceIndex]);
+            slicePath.lineTo(centerX + sliceVector.x * apexDistance, centerY + sliceVector.y * apexDistance);
+        }
+        slicePath.close();
+        return true;
+    }
+
+    private void drawLabel(Canvas canvas, SliceValue sliceValue, int sliceIndex) {
         final int numChars = valueFormatter.formatChartValue(labelBuffer, sliceValue);
 
         if (numChars == 0) {
@@ -348,21 +479,9 @@ public class PieChartRenderer extends AbstractChartRenderer {
 
         final float centerX = originCircleOval.centerX();
         final float centerY = originCircleOval.centerY();
-        final float circleRadius = originCircleOval.width() / 2f;
-        final float labelRadius;
-
-        if (hasLabelsOutside) {
-            labelRadius = circleRadius * DEFAULT_LABEL_OUTSIDE_RADIUS_FACTOR;
-        } else {
-            if (hasCenterCircle) {
-                labelRadius = circleRadius - (circleRadius - (circleRadius * centerCircleScale)) / 2;
-            } else {
-                labelRadius = circleRadius * DEFAULT_LABEL_INSIDE_RADIUS_FACTOR;
-            }
-        }
-
-        final float rawX = labelRadius * sliceVector.x + centerX;
-        final float rawY = labelRadius * sliceVector.y + centerY;
+        rotateVector(labelAnchorsX[sliceIndex], labelAnchorsY[sliceIndex]);
+        final float rawX = sliceVector.x + centerX;
+        final float rawY = sliceVector.y + centerY;
 
         float left;
         float right;
@@ -399,9 +518,179 @@ public class PieChartRenderer extends AbstractChartRenderer {
                 sliceValue.getDarkenColor());
     }
 
-    private void normalizeVector(PointF point) {
-        final float abs = point.length();
-        point.set(point.x / abs, point.y / abs);
+    /**
+     * Returns value drawn as given slice, "other" value for the last slice if values are aggregated.
+     */
+    private SliceValue getSliceValue(int sliceIndex) {
+        final int valueIndex = sliceValueIndexes[sliceIndex];
+        if (valueIndex == valuesCount) {
+            return getOtherSliceValue();
+        }
+        return dataProvider.getPieChartData().getValues().get(valueIndex);
+    }
+
+    /**
+     * Sets {@link #sliceVector} to given vector rotated by current chart rotation.
+     */
+    private void rotateVector(float x, float y) {
+        sliceVector.set(x * rotationCos - y * rotationSin, x * rotationSin + y * rotationCos);
+    }
+
+    /**
+     * Calculates slices start angles as prefix sums of slice angles and unit vectors of slices middle angles,
+     * everything for rotation 0. Rotation is applied when geometry is used so rotating chart doesn't need
+     * recalculation. Values with angle smaller than aggregation threshold are merged into "other" slice.
+     * <p/>
+     * Work is done in stages and every stage is skipped if its input didn't change: nothing is done if absolute values
+     * and aggregation settings are the same, slice mapping is rebuilt only if some value crossed threshold and
+     * trigonometry is computed only for slices whose start or angle changed. During data animation angles of all drawn
+     * slices change, with aggregation enabled there are at most 360 / threshold + 1 of them.
+     */
+    private void calculateSlicesGeometry() {
+        final PieChartData data = dataProvider.getPieChartData();
+        final List<SliceValue> values = data.getValues();
+        final int newValuesCount = values.size();
+        boolean isMembershipChanged = newValuesCount != valuesCount
+                || data.getAggregationThreshold() != aggregationThreshold
+                || data.getOtherSliceValue() != otherSliceTemplate;
+        if (absValues.length < newValuesCount) {
+            absValues = new float[newValuesCount];
+            isValueBelowThreshold = new boolean[newValuesCount];
+            aggregatedValueIndexes = new int[newValuesCount];
+            valueSliceIndexes = new int[newValuesCount + 1];
+            isMembershipChanged = true;
+        }
+        boolean isChanged = isMembershipChanged;
+        float sum = 0.0f;
+        for (int valueIndex = 0; valueIndex < newValuesCount; ++valueIndex) {
+            final float absValue = Math.abs(values.get(valueIndex).getValue());
+            if (absValue != absValues[valueIndex]) {
+                absValues[valueIndex] = absValue;
+                isChanged = true;
+            }
+            sum += absValue;
+        }
+        if (!isChanged) {
+            return;
+        }
+        valuesCount = newValuesCount;
+        aggregationThreshold = data.getAggregationThreshold();
+        otherSliceTemplate = data.getOtherSliceValue();
+        maxSum = sum;
+        final float sliceScale = maxSum > 0 ? 360f / maxSum : 0;
+
+        // Values that crossed threshold, no trigonometry here.
+        int belowThresholdCount = 0;
+        float belowThresholdSum = 0.0f;
+        for (int valueIndex = 0; valueIndex < valuesCount; ++valueIndex) {
+            final boolean isBelowThreshold = aggregationThreshold > 0
+                    && absValues[valueIndex] * sliceScale < aggregationThreshold;
+            if (isBelowThreshold != isValueBelowThreshold[valueIndex]) {
+                isValueBelowThreshold[valueIndex] = isBelowThreshold;
+                isMembershipChanged = true;
+            }
+            if (isBelowThreshold) {
+                ++belowThresholdCount;
+                belowThresholdSum += absValues[valueIndex];
+            }
+        }
+        // Single small slice is drawn as it is, there is nothing to merge it with.
+        otherSum = belowThresholdCount < 2 ? 0 : belowThresholdSum;
+        if (isMembershipChanged) {
+            calculateSlicesMapping(belowThresholdCount >= 2);
+        }
+
+        float lastAngle = 0;
+        boolean isGeometryChanged = isMembershipChanged;
+        for (int sliceIndex = 0; sliceIndex < slicesCount; ++sliceIndex) {
+            final int valueIndex = sliceValueIndexes[sliceIndex];
+            final float angle = (valueIndex == valuesCount ? otherSum : absValues[valueIndex]) * sliceScale;
+            // End of this slice is not overwritten yet.
+            if (isMembershipChanged || sliceStartAngles[sliceIndex] != lastAngle
+                    || sliceStartAngles[sliceIndex + 1] != lastAngle + angle) {
+                setSliceGeometry(sliceIndex, lastAngle, angle);
+                isGeometryChanged = true;
+            }
+            lastAngle += angle;
+        }
+        sliceStartAngles[slicesCount] = lastAngle;
+        if (isGeometryChanged) {
+            labelAnchorsRadius = Float.NaN;
+        }
+    }
+
+    /**
+     * Rebuilds mapping between slices and values after some value crossed aggregation threshold or data changed.
+     */
+    private void calculateSlicesMapping(boolean hasOtherSlice) {
+        aggregatedValuesCount = 0;
+        if (hasOtherSlice) {
+            for (int valueIndex = 0; valueIndex < valuesCount; ++valueIndex) {
+                if (isValueBelowThreshold[valueIndex]) {
+                    aggregatedValueIndexes[aggregatedValuesCount++] = valueIndex;
+                }
+            }
+        }
+        slicesCount = valuesCount - aggregatedValuesCount + (hasOtherSlice ? 1 : 0);
+        if (sliceStartAngles.length < slicesCount + 1) {
+            sliceStartAngles = new float[slicesCount + 1];
+            sliceMiddleVectorsX = new float[slicesCount];
+            sliceMiddleVectorsY = new float[slicesCount];
+            labelAnchorsX = new float[slicesCount];
+            labelAnchorsY = new float[slicesCount];
+            sliceValueIndexes = new int[slicesCount];
+        }
+        int sliceIndex = 0;
+        for (int valueIndex = 0; valueIndex < valuesCount; ++valueIndex) {
+            if (hasOtherSlice && isValueBelowThreshold[valueIndex]) {
+                valueSliceIndexes[valueIndex] = -1;
+            } else {
+                sliceValueIndexes[sliceIndex] = valueIndex;
+                valueSliceIndexes[valueIndex] = sliceIndex;
+                ++sliceIndex;
+            }
+        }
+        if (hasOtherSlice) {
+            sliceValueIndexes[sliceIndex] = valuesCount;
+            valueSliceIndexes[valuesCount] = sliceIndex;
+        } else {
+            valueSliceIndexes[valuesCount] = -1;
+        }
+    }
+
+    /**
+     * Sets start angle and middle vector of given slice.
+     */
+    private void setSliceGeometry(int sliceIndex, float startAngle, float angle) {
+        sliceStartAngles[sliceIndex] = startAngle;
+        final double middleRadians = Math.toRadians(startAngle + angle / 2);
+        sliceMiddleVectorsX[sliceIndex] = (float) Math.cos(middleRadians);
+        sliceMiddleVectorsY[sliceIndex] = (float) Math.sin(middleRadians);
+    }
+
+    /**
+     * Recalculates label anchors if label radius changed since last calculation.
+     */
+    private void prepareLabelAnchors() {
+        final float circleRadius = originCircleOval.width() / 2f;
+        final float labelRadius;
+        if (hasLabelsOutside) {
+            labelRadius = circleRadius * DEFAULT_LABEL_OUTSIDE_RADIUS_FACTOR;
+        } else {
+            if (hasCenterCircle) {
+                labelRadius = circleRadius - (circleRadius - (circleRadius * centerCircleScale)) / 2;
+            } else {
+                labelRadius = circleRadius * DEFAULT_LABEL_INSIDE_RADIUS_FACTOR;
+            }
+        }
+        if (labelRadius == labelAnchorsRadius) {
+            return;
+        }
+        for (int sliceIndex = 0; sliceIndex < slicesCount; ++sliceIndex) {
+            labelAnchorsX[sliceIndex] = sliceMiddleVectorsX[sliceIndex] * labelRadius;
+            labelAnchorsY[sliceIndex] = sliceMiddleVectorsY[sliceIndex] * labelRadius;
+        }
+        labelAnchorsRadius = labelRadius;
     }
 
     /**
@@ -438,14 +727,10 @@ public class PieChartRenderer extends AbstractChartRenderer {
 
     /**
      * Viewport is not really important for PieChart, this kind of chart doesn't relay on viewport but uses pixels
-     * coordinates instead. This method also calculates sum of all SliceValues.
+     * coordinates instead.
      */
     private void calculateMaxViewport() {
         tempMaximumViewport.set(0, MAX_WIDTH_HEIGHT, MAX_WIDTH_HEIGHT, 0);
-        maxSum = 0.0f;
-        for (SliceValue sliceValue : dataProvider.getPieChartData().getValues()) {
-            maxSum += Math.abs(sliceValue.getValue());
-        }
     }
 
     public RectF getCircleOval() {
@@ -463,29 +748,76 @@ public class PieChartRenderer extends AbstractChartRenderer {
     public void setChartRotation(int rotation) {
         rotation = (rotation % 360 + 360) % 360;
         this.rotation = rotation;
+        final double radians = Math.toRadians(rotation);
+        rotationCos = (float) Math.cos(radians);
+        rotationSin = (float) Math.sin(radians);
     }
 
     /**
-     * Returns SliceValue that is under given angle, selectedValue (if not null) will be hold slice index.
+     * Returns SliceValue that is under given angle, selectedValue (if not null) will be hold value index. For "other"
+     * slice "other" value is returned and index is equal to number of values.
      */
     public SliceValue getValueForAngle(int angle, SelectedValue selectedValue) {
-        final PieChartData data = dataProvider.getPieChartData();
-        final float touchAngle = (angle - rotation + 360f) % 360f;
-        final float sliceScale = 360f / maxSum;
-        float lastAngle = 0f;
-        int sliceIndex = 0;
-        for (SliceValue sliceValue : data.getValues()) {
-            final float tempAngle = Math.abs(sliceValue.getValue()) * sliceScale;
-            if (touchAngle >= lastAngle) {
-                if (null != selectedValue) {
-                    selectedValue.set(sliceIndex, sliceIndex, SelectedValueType.NONE);
-                }
-                return sliceValue;
-            }
-            lastAngle += tempAngle;
-            ++sliceIndex;
+        final float touchAngle = ((angle - rotation) % 360f + 360f) % 360f;
+        final int sliceIndex = findSliceIndex(touchAngle);
+        if (sliceIndex < 0) {
+            return null;
+        }
+        if (null != selectedValue) {
+            final int valueIndex = sliceValueIndexes[sliceIndex];
+            selectedValue.set(valueIndex, valueIndex, SelectedValueType.NONE);
         }
-        return null;
+        return getSliceValue(sliceIndex);
+    }
+
+    /**
+     * Returns number of values merged into "other" slice, 0 if there is no "other" slice.
+     *
+     * @see PieChartData#setAggregationThreshold(float)
+     */
+    public int getAggregatedValuesCount() {
+        return aggregatedValuesCount;
+    }
+
+    /**
+     * Returns index of value merged into "other" slice, position is between 0 and
+     * {@link #getAggregatedValuesCount()} - 1 and merged values are ordered by index.
+     */
+    public int getAggregatedValueIndex(int position) {
+        if (position < 0 || position >= aggregatedValuesCount) {
+            throw new IllegalArgumentException("Invalid aggregated value position: " + position);
+        }
+        return aggregatedValueIndexes[position];
+    }
+
+    /**
+     * Returns true if value with given index is merged into "other" slice.
+     */
+    public boolean isValueAggregated(int valueIndex) {
+        return valueIndex >= 0 && valueIndex < valuesCount && valueSliceIndexes[valueIndex] < 0;
+    }
+
+    /**
+     * Returns true if given selected value index points to "other" slice, it is equal to number of values in that
+     * case.
+     */
+    public boolean isOtherSliceIndex(int valueIndex) {
+        return valueIndex == valuesCount && aggregatedValuesCount > 0;
+    }
+
+    /**
+     * Returns "other" value with sum of merged values and color and label of
+     * {@link PieChartData#getOtherSliceValue()}. Returned object is owned by renderer and reused.
+     */
+    @SuppressWarnings("deprecation")
+    public SliceValue getOtherSliceValue() {
+        if (null != otherSliceTemplate) {
+            // Template could have been modified after geometry was calculated.
+            otherSliceValue.setColor(otherSliceTemplate.getColor());
+            otherSliceValue.setLabel(otherSliceTemplate.getLabelAsChars());
+        }
+        otherSliceValue.setValue(otherSum);
+        return otherSliceValue;
     }
 
     /**
@@ -510,4 +842,30 @@ public class PieChartRenderer extends AbstractChartRenderer {
         calculateCircleOval();
     }
 
+    /**
+     * @see #setRotationLayerEnabled(boolean)
+     */
+    public boolean isRotationLayerEnabled() {
+        return isRotationLayerEnabled;
+    }
+
+    /**
+     * Set true to render slices and center circle once into offscreen layer when rotation starts and only draw that
+     * layer rotated while rotation is in progress(rotation animation, drag or fling), labels and center text are
+     * drawn upright on top of it. Chart is fully rendered again when rotation settles. Disabled by default.
+     */
+    public void setRotationLayerEnabled(boolean isRotationLayerEnabled) {
+        this.isRotationLayerEnabled = isRotationLayerEnabled;
+        if (!isRotationLayerEnabled) {
+            releaseRotationLayer();
+        }
+    }
+
+    /**
+     * Set by chart view before drawing, true if rotation is changing frame by frame.
+     */
+    public void setRotationInProgress(boolean isRotationInProgress) {
+        this.isRotationInProgress = isRotationInProgress;
+    }
+
 }
@@ -0,0 +1,134 @@
+package lecho.lib.hellocharts.renderer;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.Rect;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lecho.lib.hellocharts.model.ValueShape;
+
+/**
+ * Bitmap atlas with pre-rendered point markers. Every combination of shape, color and radius is drawn only once into
+ * shared bitmap, then markers can be drawn by copying part of that bitmap. Sprites are packed in rows(shelves) and
+ * never moved or removed until {@link #clear()} is called, if atlas is full {@link #getSprite(ValueShape, int, int)}
+ * returns null and caller should draw marker directly.
+ */
+public class PointSpriteAtlas {
+    private static final int DEFAULT_ATLAS_SIZE = 512;
+    /**
+     * Transparent margin around every sprite so antialiased edges are not cut and neighbour sprites don't bleed.
+     */
+    private static final int SPRITE_PADDING = 1;
+    private static final float SQRT_2 = (float) Math.sqrt(2);
+    private final int atlasSize;
+    private Bitmap bitmap;
+    private Canvas canvas = new Canvas();
+    private Paint paint = new Paint();
+    private Path diamondPath = new Path();
+    private Map<Long, Rect> sprites = new HashMap<Long, Rect>();
+    private int shelfTop;
+    private int shelfHeight;
+    private int shelfRight;
+
+    public PointSpriteAtlas() {
+        this(DEFAULT_ATLAS_SIZE);
+    }
+
+    /**
+     * @param atlasSize width and height of atlas bitmap in pixels
+     */
+    public PointSpriteAtlas(int atlasSize) {
+        if (atlasSize <= 0) {
+            throw new IllegalArgumentException("Invalid atlas size: " + atlasSize);
+        }
+        this.atlasSize = atlasSize;
+        paint.setAntiAlias(true);
+        paint.setStyle(Paint.Style.FILL);
+    }
+
+    /**
+     * Returns part of {@link #getBitmap()} with marker of given shape, color and radius, marker is centered in
+     * returned rect. Draws marker into atlas if it's not there yet. Returns null if there is no space for marker.
+     */
+    public Rect getSprite(ValueShape shape, int color, int radius) {
+        final Long key = (((long) color) << 32) | ((long) radius << 2) | shape.ordinal();
+        Rect sprite = sprites.get(key);
+        if (null != sprite) {
+            return sprite;
+        }
+        final int spriteSize = calculateSpriteSize(shape, radius);
+        if (spriteSize > atlasSize) {
+            return null;
+        }
+        if (shelfRight + spriteSize > atlasSize) {
+            // Start next shelf.
+            shelfTop += shelfHeight;
+            shelfHeight = 0;
+            shelfRight = 0;
+        }
+        if (shelfTop + spriteSize > atlasSize) {
+            return null;
+        }
+        if (null == bitmap) {
+            bitmap = Bitmap.createBitmap(atlasSize, atlasSize, Bitmap.Config.ARGB_8888);
+        }
+        canvas.setBitmap(bitmap);
+        sprite = new Rect(shelfRight, shelfTop, shelfRight + spriteSize, shelfTop + spriteSize);
+        shelfRight += spriteSize;
+        shelfHeight = Math.max(shelfHeight, spriteSize);
+        drawSprite(sprite, shape, color, radius);
+        sprites.put(key, sprite);
+        return sprite;
+    }
+
+    /**
+     * Returns atlas bitmap, null if no sprite has been drawn yet.
+     */
+    public Bitmap getBitmap() {
+        return bitmap;
+    }
+
+    /**
+     * Removes all sprites and releases atlas bitmap. Bitmap is not recycled because it may still be referenced by
+     * display list of hardware accelerated canvas.
+     */
+    public void clear() {
+        sprites.clear();
+        shelfTop = 0;
+        shelfHeight = 0;
+        shelfRight = 0;
+        bitmap = null;
+    }
+
+    private int calculateSpriteSize(ValueShape shape, int radius) {
+        // Diamond is square rotated by 45 degrees, its diagonal is sqrt(2) times longer than square side.
+        final float extent = ValueShape.DIAMOND.equals(shape) ? radius * SQRT_2 : radius;
+        return (int) Math.ceil(2 * extent) + 2 * SPRITE_PADDING;
+    }
+
+    private void drawSprite(Rect sprite, ValueShape shape, int color, int radius) {
+        final float centerX = sprite.exactCenterX();
+        final float centerY = sprite.exactCenterY();
+        paint.setColor(color);
+        if (ValueShape.SQUARE.equals(shape)) {
+            canvas.drawRect(centerX - radius, centerY - radius, centerX + radius, centerY + radius, paint);
+        } else if (ValueShape.CIRCLE.equals(shape)) {
+            canvas.drawCircle(centerX, centerY, radius, paint);
+        } else if (ValueShape.DIAMOND.equals(shape)) {
+            final float extent = radius * SQRT_2;
+            diamondPath.reset();
+            diamondPath.moveTo(centerX, centerY - extent);
+            diamondPath.lineTo(centerX + extent, centerY);
+            diamondPath.lineTo(centerX, centerY + extent);
+            diamondPath.lineTo(centerX - extent, centerY);
+            diamondPath.close();
+            canvas.drawPath(diamondPath, paint);
+        } else {
+            throw new IllegalArgumentException("Invalid point shape: " + shape);
+        }
+    }
+}
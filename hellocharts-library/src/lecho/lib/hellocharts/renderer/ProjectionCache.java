@@ -0,0 +1,62 @@
+package lecho.lib.hellocharts.renderer;
+
+/**
+ * Cache of raw(pixel) coordinates for range of chart values, filled once and shared by drawing passes and touch
+ * checking. Cached coordinates are valid as long as source of values, its version, data version of renderer and
+ * transformation version of chart computator don't change.
+ */
+public class ProjectionCache {
+    private float[] rawX = new float[0];
+    private float[] rawY = new float[0];
+    private Object source;
+    private int fromIndex;
+    private int toIndex;
+    private int transformationVersion;
+    private int dataVersion;
+    private int sourceVersion;
+    private boolean isValid;
+
+    /**
+     * Returns true if cache contains coordinates of values in range [fromIndex, toIndex) of given source calculated
+     * for given versions.
+     */
+    public boolean isValid(Object source, int fromIndex, int toIndex, int transformationVersion, int dataVersion,
+                           int sourceVersion) {
+        return isValid && this.source == source && this.transformationVersion == transformationVersion
+                && this.dataVersion == dataVersion && this.sourceVersion == sourceVersion
+                && this.fromIndex <= fromIndex && this.toIndex >= toIndex;
+    }
+
+    /**
+     * Prepares cache for values in range [fromIndex, toIndex) of given source, coordinates have to be set with
+     * {@link #set(int, float, float)} for every index in that range.
+     */
+    public void reset(Object source, int fromIndex, int toIndex, int transformationVersion, int dataVersion,
+                      int sourceVersion) {
+        final int size = toIndex - fromIndex;
+        if (rawX.length < size) {
+            rawX = new float[size];
+            rawY = new float[size];
+        }
+        this.source = source;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.transformationVersion = transformationVersion;
+        this.dataVersion = dataVersion;
+        this.sourceVersion = sourceVersion;
+        this.isValid = true;
+    }
+
+    public void set(int index, float rawX, float rawY) {
+        this.rawX[index - fromIndex] = rawX;
+        this.rawY[index - fromIndex] = rawY;
+    }
+
+    public float getRawX(int index) {
+        return rawX[index - fromIndex];
+    }
+
+    public float getRawY(int index) {
+        return rawY[index - fromIndex];
+    }
+}
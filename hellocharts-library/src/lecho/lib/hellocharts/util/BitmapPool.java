@@ -0,0 +1,93 @@
+package lecho.lib.hellocharts.util;
+
+import android.graphics.Bitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Process-wide pool of ARGB_8888 bitmaps used as offscreen layers by chart renderers. Requested sizes are rounded up
+ * to buckets of {@link #BUCKET_SIZE} pixels so charts with similar sizes(i.e. pages of ViewPager) share the same
+ * bitmaps. Released bitmaps are kept until pool exceeds its maximum size, then the oldest ones are dropped. Pooled
+ * bitmaps are never recycled because they may still be referenced by display lists of hardware accelerated views.
+ */
+public class BitmapPool {
+    public static final int BUCKET_SIZE = 64;
+    private static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final List<Bitmap> bitmaps = new ArrayList<Bitmap>();
+    private static long size;
+    private static long maxSize = DEFAULT_MAX_SIZE;
+
+    private BitmapPool() {
+    }
+
+    /**
+     * Returns bitmap with at least given width and height, its content is undefined. Bitmap should be returned to
+     * pool with {@link #release(Bitmap)} when it's not used anymore.
+     */
+    public static synchronized Bitmap acquire(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid bitmap size: " + width + "x" + height);
+        }
+        final int bucketWidth = roundToBucket(width);
+        final int bucketHeight = roundToBucket(height);
+        for (int i = bitmaps.size() - 1; i >= 0; --i) {
+            final Bitmap bitmap = bitmaps.get(i);
+            if (bitmap.getWidth() == bucketWidth && bitmap.getHeight() == bucketHeight) {
+                bitmaps.remove(i);
+                size -= calculateSize(bitmap);
+                return bitmap;
+            }
+        }
+        return Bitmap.createBitmap(bucketWidth, bucketHeight, Bitmap.Config.ARGB_8888);
+    }
+
+    /**
+     * Returns bitmap to pool, bitmap must not be used by caller after this call.
+     */
+    public static synchronized void release(Bitmap bitmap) {
+        if (null == bitmap || bitmap.isRecycled()) {
+            return;
+        }
+        bitmaps.add(bitmap);
+        size += calculateSize(bitmap);
+        trim(maxSize);
+    }
+
+    /**
+     * Removes all bitmaps from pool, call it i.e. from onTrimMemory().
+     */
+    public static synchronized void clear() {
+        trim(0);
+    }
+
+    public static synchronized long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Set maximum number of bytes used by pooled bitmaps, default is 16MB. Bitmaps in use are not counted.
+     */
+    public static synchronized void setMaxSize(long maxSize) {
+        if (maxSize < 0) {
+            maxSize = 0;
+        }
+        BitmapPool.maxSize = maxSize;
+        trim(maxSize);
+    }
+
+    private static void trim(long targetSize) {
+        while (size > targetSize && !bitmaps.isEmpty()) {
+            size -= calculateSize(bitmaps.remove(0));
+        }
+    }
+
+    private static long calculateSize(Bitmap bitmap) {
+        return (long) bitmap.getWidth() * bitmap.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    private static int roundToBucket(int value) {
+        return (value + BUCKET_SIZE - 1) / BUCKET_SIZE * BUCKET_SIZE;
+    }
+}
@@ -0,0 +1,163 @@
+package lecho.lib.hellocharts.util;
+
+/**
+ * Range minimum/maximum query index for float array that is owned by caller. Values are grouped into blocks, minimum
+ * and maximum of every block are kept in segment tree, so range query and value update cost O(log n + block size) and
+ * index needs only about 1/8 of values array memory. Caller has to notify index about every change of values using
+ * {@link #add(float[])}, {@link #set(float[], int)} or {@link #rebuild(float[], int)}. NaN values are ignored.
+ */
+public class RangeMinMaxIndex {
+    private static final int BLOCK_SHIFT = 5;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    private float[] values;
+    private int size;
+    /**
+     * Number of tree leaves, always power of two. Leaf i is kept at position leavesCount + i, node i has children 2i
+     * and 2i + 1.
+     */
+    private int leavesCount;
+    private float[] minTree;
+    private float[] maxTree;
+
+    public RangeMinMaxIndex() {
+        rebuild(new float[0], 0);
+    }
+
+    /**
+     * Rebuilds index for the first size values of given array in O(n) time. Tree arrays are reallocated only if they
+     * are too small, so index can be rebuilt in every animation frame without allocations.
+     */
+    public void rebuild(float[] values, int size) {
+        this.values = values;
+        this.size = size;
+        final int blocksCount = blocksCount(size);
+        leavesCount = 1;
+        while (leavesCount < blocksCount) {
+            leavesCount <<= 1;
+        }
+        if (null == minTree || minTree.length < leavesCount * 2) {
+            minTree = new float[leavesCount * 2];
+            maxTree = new float[leavesCount * 2];
+        }
+        for (int block = 0; block < leavesCount; ++block) {
+            calculateLeaf(block);
+        }
+        for (int node = leavesCount - 1; node > 0; --node) {
+            calculateNode(node);
+        }
+    }
+
+    /**
+     * Adds value at index size of given array to index, array may be different than the one used previously if it was
+     * reallocated but it has to contain the same values.
+     */
+    public void add(float[] values) {
+        this.values = values;
+        ++size;
+        if (blocksCount(size) > leavesCount) {
+            rebuild(values, size);
+        } else {
+            update((size - 1) >> BLOCK_SHIFT);
+        }
+    }
+
+    /**
+     * Updates index after value at given index of given array has been changed.
+     */
+    public void set(float[] values, int index) {
+        checkRange(index, index + 1);
+        this.values = values;
+        update(index >> BLOCK_SHIFT);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns minimum of values in range [fromIndex, toIndex) or Float.POSITIVE_INFINITY if range is empty.
+     */
+    public float getMin(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        return query(fromIndex, toIndex, false);
+    }
+
+    /**
+     * Returns maximum of values in range [fromIndex, toIndex) or Float.NEGATIVE_INFINITY if range is empty.
+     */
+    public float getMax(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        return query(fromIndex, toIndex, true);
+    }
+
+    private float query(int fromIndex, int toIndex, boolean isMax) {
+        float result = isMax ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+        if (fromIndex >= toIndex) {
+            return result;
+        }
+        final int firstBlock = fromIndex >> BLOCK_SHIFT;
+        final int lastBlock = (toIndex - 1) >> BLOCK_SHIFT;
+        if (firstBlock == lastBlock) {
+            return scan(fromIndex, toIndex, isMax, result);
+        }
+        result = scan(fromIndex, (firstBlock + 1) << BLOCK_SHIFT, isMax, result);
+        result = scan(lastBlock << BLOCK_SHIFT, toIndex, isMax, result);
+
+        // Full blocks between first and last one, bottom-up query of inclusive range of leaves.
+        final float[] tree = isMax ? maxTree : minTree;
+        int left = firstBlock + 1 + leavesCount;
+        int right = lastBlock - 1 + leavesCount;
+        while (left <= right) {
+            if ((left & 1) == 1) {
+                result = isMax ? Math.max(result, tree[left]) : Math.min(result, tree[left]);
+                ++left;
+            }
+            if ((right & 1) == 0) {
+                result = isMax ? Math.max(result, tree[right]) : Math.min(result, tree[right]);
+                --right;
+            }
+            left >>= 1;
+            right >>= 1;
+        }
+        return result;
+    }
+
+    private float scan(int fromIndex, int toIndex, boolean isMax, float result) {
+        for (int i = fromIndex; i < toIndex; ++i) {
+            final float value = values[i];
+            if (isMax ? value > result : value < result) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
+    private void update(int block) {
+        calculateLeaf(block);
+        for (int node = (block + leavesCount) >> 1; node > 0; node >>= 1) {
+            calculateNode(node);
+        }
+    }
+
+    private void calculateLeaf(int block) {
+        final int from = Math.min(block << BLOCK_SHIFT, size);
+        final int to = Math.min(from + BLOCK_SIZE, size);
+        minTree[leavesCount + block] = scan(from, to, false, Float.POSITIVE_INFINITY);
+        maxTree[leavesCount + block] = scan(from, to, true, Float.NEGATIVE_INFINITY);
+    }
+
+    private void calculateNode(int node) {
+        minTree[node] = Math.min(minTree[2 * node], minTree[2 * node + 1]);
+        maxTree[node] = Math.max(maxTree[2 * node], maxTree[2 * node + 1]);
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range: [" + fromIndex + ", " + toIndex + "), size: " + size);
+        }
+    }
+
+    private static int blocksCount(int size) {
+        return (size + BLOCK_SIZE - 1) >> BLOCK_SHIFT;
+    }
+}
@@ -0,0 +1,100 @@
+package lecho.lib.hellocharts.util;
+
+import lecho.lib.hellocharts.model.PointSeries;
+import lecho.lib.hellocharts.model.RangeQueryPointSeries;
+
+/**
+ * Helper methods for {@link PointSeries}, binary search methods work only for series with values sorted by X in
+ * ascending order.
+ */
+public abstract class SeriesUtils {
+
+    /**
+     * Returns index of the first value with X greater or equal to given x, or series size if there is no such value.
+     */
+    public static int lowerBound(PointSeries series, float x) {
+        int low = 0;
+        int high = series.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (series.getX(middle) < x) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns index of the first value with X greater than given x, or series size if there is no such value.
+     */
+    public static int upperBound(PointSeries series, float x) {
+        int low = 0;
+        int high = series.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (series.getX(middle) <= x) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns index of the value with X nearest to given x, or -1 for empty series. If two values are equally distant
+     * the one with lower index is returned.
+     */
+    public static int nearestIndex(PointSeries series, float x) {
+        final int size = series.size();
+        if (size == 0) {
+            return -1;
+        }
+        final int index = lowerBound(series, x);
+        if (index == size) {
+            return size - 1;
+        }
+        if (index > 0 && x - series.getX(index - 1) <= series.getX(index) - x) {
+            return index - 1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns minimum Y value of values in range [fromIndex, toIndex) or Float.POSITIVE_INFINITY for empty range. Uses
+     * range index if series has one, see {@link RangeQueryPointSeries}, otherwise scans values.
+     */
+    public static float getMinY(PointSeries series, int fromIndex, int toIndex) {
+        if (series instanceof RangeQueryPointSeries) {
+            return ((RangeQueryPointSeries) series).getMinY(fromIndex, toIndex);
+        }
+        float minY = Float.POSITIVE_INFINITY;
+        for (int i = fromIndex; i < toIndex; ++i) {
+            final float y = series.getY(i);
+            if (y < minY) {
+                minY = y;
+            }
+        }
+        return minY;
+    }
+
+    /**
+     * Returns maximum Y value of values in range [fromIndex, toIndex) or Float.NEGATIVE_INFINITY for empty range. Uses
+     * range index if series has one, see {@link RangeQueryPointSeries}, otherwise scans values.
+     */
+    public static float getMaxY(PointSeries series, int fromIndex, int toIndex) {
+        if (series instanceof RangeQueryPointSeries) {
+            return ((RangeQueryPointSeries) series).getMaxY(fromIndex, toIndex);
+        }
+        float maxY = Float.NEGATIVE_INFINITY;
+        for (int i = fromIndex; i < toIndex; ++i) {
+            final float y = series.getY(i);
+            if (y > maxY) {
+                maxY = y;
+            }
+        }
+        return maxY;
+    }
+}
@@ -22,8 +22,11 @@ import lecho.lib.hellocharts.gesture.ZoomType;
 import lecho.lib.hellocharts.listener.ViewportChangeListener;
 import lecho.lib.hellocharts.model.SelectedValue;
 import lecho.lib.hellocharts.model.Viewport;
+import lecho.lib.hellocharts.renderer.AbstractChartRenderer;
 import lecho.lib.hellocharts.renderer.AxesRenderer;
 import lecho.lib.hellocharts.renderer.ChartRenderer;
+import lecho.lib.hellocharts.renderer.ChartTileCache;
+import lecho.lib.hellocharts.renderer.GestureSnapshot;
 import lecho.lib.hellocharts.util.ChartUtils;
 
 /**
@@ -41,6 +44,14 @@ public abstract class AbstractChartView extends View implements Chart {
     protected boolean isInteractive = true;
     protected boolean isContainerScrollEnabled = false;
     protected ContainerScrollType containerScrollType;
+    /**
+     * Cache of rendered chart tiles, null if tile cache is disabled.
+     */
+    protected ChartTileCache tileCache;
+    /**
+     * Snapshot drawn during gestures, null if gesture snapshot mode is disabled.
+     */
+    protected GestureSnapshot gestureSnapshot;
 
     public AbstractChartView(Context context) {
         this(context, null, 0);
@@ -77,6 +88,19 @@ public abstract class AbstractChartView extends View implements Chart {
                 getPaddingBottom());
         chartRenderer.onChartSizeChanged();
         axesRenderer.onChartSizeChanged();
+        invalidateCachedContent();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        if (chartRenderer instanceof AbstractChartRenderer) {
+            ((AbstractChartRenderer) chartRenderer).onChartDetachedFromWindow();
+        }
+        invalidateCachedContent();
+        if (null != gestureSnapshot) {
+            gestureSnapshot.release();
+        }
     }
 
     @Override
@@ -84,16 +108,43 @@ public abstract class AbstractChartView extends View implements Chart {
         super.onDraw(canvas);
 
         if (isEnabled()) {
-            axesRenderer.drawInBackground(canvas);
+            // Chart is drawn directly on view canvas, with cached paths redrawing it when only selection changes is
+            // cheap and keeps hardware acceleration.
+            drawChart(canvas);
+            // Highlight is drawn last to bring selected value to the front.
+            if (chartRenderer instanceof AbstractChartRenderer) {
+                ((AbstractChartRenderer) chartRenderer).drawHighlight(canvas);
+            }
+        } else {
+            canvas.drawColor(ChartUtils.DEFAULT_COLOR);
+        }
+    }
+
+    /**
+     * Draws axes and chart content without highlight of selected value.
+     */
+    private void drawChart(Canvas canvas) {
+        axesRenderer.drawInBackground(canvas);
+        if (isGestureSnapshotDrawn()) {
+            // Snapshot contains unclipped content too.
+            gestureSnapshot.draw(canvas);
+        } else {
+            if (null != gestureSnapshot) {
+                gestureSnapshot.release();
+            }
             int clipRestoreCount = canvas.save();
             canvas.clipRect(chartComputator.getContentRectMinusAllMargins());
-            chartRenderer.draw(canvas);
+            if (null == tileCache || !tileCache.draw(canvas)) {
+                chartRenderer.draw(canvas);
+            }
             canvas.restoreToCount(clipRestoreCount);
             chartRenderer.drawUnclipped(canvas);
-            axesRenderer.drawInForeground(canvas);
-        } else {
-            canvas.drawColor(ChartUtils.DEFAULT_COLOR);
         }
+        axesRenderer.drawInForeground(canvas);
+    }
+
+    private boolean isGestureSnapshotDrawn() {
+        return null != gestureSnapshot && touchHandler.isGestureInProgress();
     }
 
     @Override
@@ -150,6 +201,11 @@ public abstract class AbstractChartView extends View implements Chart {
     public void animationDataUpdate(float scale) {
         getChartData().update(scale);
         chartRenderer.onChartViewportChanged();
+        // Animation modifies values in place.
+        if (chartRenderer instanceof AbstractChartRenderer) {
+            ((AbstractChartRenderer) chartRenderer).onChartValuesChanged();
+        }
+        invalidateCachedContent();
         ViewCompat.postInvalidateOnAnimation(this);
     }
 
@@ -157,6 +213,11 @@ public abstract class AbstractChartView extends View implements Chart {
     public void animationDataFinished() {
         getChartData().finish();
         chartRenderer.onChartViewportChanged();
+        // Animation modifies values in place.
+        if (chartRenderer instanceof AbstractChartRenderer) {
+            ((AbstractChartRenderer) chartRenderer).onChartValuesChanged();
+        }
+        invalidateCachedContent();
         ViewCompat.postInvalidateOnAnimation(this);
     }
 
@@ -184,6 +245,7 @@ public abstract class AbstractChartView extends View implements Chart {
     public void setChartRenderer(ChartRenderer renderer) {
         chartRenderer = renderer;
         resetRendererAndTouchHandler();
+        invalidateCachedContent();
         ViewCompat.postInvalidateOnAnimation(this);
     }
 
@@ -466,10 +528,90 @@ public abstract class AbstractChartView extends View implements Chart {
         this.containerScrollType = containerScrollType;
     }
 
+    /**
+     * @see #setTileCacheEnabled(boolean)
+     */
+    public boolean isTileCacheEnabled() {
+        return null != tileCache;
+    }
+
+    /**
+     * Enables tile cache, chart content is rendered into tile bitmaps that are reused when chart is scrolled, see
+     * {@link ChartTileCache}. Useful for zoomed charts with many values. Axes and values drawn
+     * outside of content rect(i.e. line points) are not cached. Disabled by default.
+     */
+    public void setTileCacheEnabled(boolean isTileCacheEnabled) {
+        if (isTileCacheEnabled && null == tileCache) {
+            tileCache = new ChartTileCache(this);
+        } else if (!isTileCacheEnabled && null != tileCache) {
+            tileCache.invalidate();
+            tileCache = null;
+        }
+        ViewCompat.postInvalidateOnAnimation(this);
+    }
+
+    /**
+     * Returns tile cache or null if it's disabled.
+     */
+    public ChartTileCache getTileCache() {
+        return tileCache;
+    }
+
+    /**
+     * @see #setGestureSnapshotEnabled(boolean)
+     */
+    public boolean isGestureSnapshotEnabled() {
+        return null != gestureSnapshot;
+    }
+
+    /**
+     * Enables gesture snapshot mode, during scroll, zoom and fling chart content is not rendered but drawn from
+     * snapshot taken when gesture started and transformed to current viewport, see {@link GestureSnapshot}. Chart is
+     * rendered in full quality when gesture finishes. Useful for charts with very large data. Disabled by default.
+     */
+    public void setGestureSnapshotEnabled(boolean isGestureSnapshotEnabled) {
+        if (isGestureSnapshotEnabled && null == gestureSnapshot) {
+            gestureSnapshot = new GestureSnapshot(this);
+        } else if (!isGestureSnapshotEnabled && null != gestureSnapshot) {
+            gestureSnapshot.release();
+            gestureSnapshot = null;
+        }
+        ViewCompat.postInvalidateOnAnimation(this);
+    }
+
+    /**
+     * Call this method after values of current data were modified in place if renderer keeps something calculated
+     * from all values, i.e. level of detail of lines with values that are not
+     * {@link lecho.lib.hellocharts.model.VersionedPointSeries}, aggregated columns or pie slices geometry. Line paths
+     * and projected coordinates are updated automatically, for them {@link #invalidate()} is enough. Viewports are
+     * not recalculated.
+     */
+    public void onChartValuesChanged() {
+        if (chartRenderer instanceof AbstractChartRenderer) {
+            ((AbstractChartRenderer) chartRenderer).onChartValuesChanged();
+        }
+        invalidateCachedContent();
+        ViewCompat.postInvalidateOnAnimation(this);
+    }
+
+    /**
+     * Removes cached tiles and invalidates gesture snapshot, call it if you changed how chart is drawn
+     * without calling setter for chart data. Use {@link #onChartValuesChanged()} if values were modified.
+     */
+    public void invalidateCachedContent() {
+        if (null != tileCache) {
+            tileCache.invalidate();
+        }
+        if (null != gestureSnapshot) {
+            gestureSnapshot.invalidate();
+        }
+    }
+
     protected void onChartDataChange() {
         chartComputator.resetContentRect();
         chartRenderer.onChartDataChanged();
         axesRenderer.onChartDataChanged();
+        invalidateCachedContent();
         ViewCompat.postInvalidateOnAnimation(this);
     }
 
@@ -71,6 +71,12 @@ public interface Chart {
      * called. If you disable viewports calculations viewports will not change until you change them manually or enable
      * calculations again. Disabled viewport calculations is usefull if you want show only part of chart by setting
      * custom viewport and don't want any operation to change that viewport
+     * <p/>
+     * Maximum viewport is calculated in O(1) time only for lines whose series implement
+     * {@link lecho.lib.hellocharts.model.RangeQueryPointSeries}, i.e.
+     * {@link lecho.lib.hellocharts.model.FloatPointSeries} and {@link lecho.lib.hellocharts.model.RingPointSeries}.
+     * For other lines and for column and bubble charts all values are scanned on every recalculation, that's in every
+     * frame of data animation.
      */
     public void setViewportCalculationEnabled(boolean isEnabled);
 
@@ -58,6 +58,34 @@ public class ColumnChartView extends AbstractChartView implements ColumnChartDat
 
     }
 
+    /**
+     * Returns index of the first column represented by selected value or -1 if nothing is selected, selected bar can
+     * represent many columns if columns are aggregated.
+     *
+     * @see ColumnChartRenderer#getSelectedColumnsFromIndex()
+     * @see ColumnChartData#setAggregated(boolean)
+     */
+    public int getSelectedColumnsFromIndex() {
+        if (chartRenderer instanceof ColumnChartRenderer) {
+            return ((ColumnChartRenderer) chartRenderer).getSelectedColumnsFromIndex();
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns index after the last column represented by selected value or -1 if nothing is selected.
+     *
+     * @see #getSelectedColumnsFromIndex()
+     */
+    public int getSelectedColumnsToIndex() {
+        if (chartRenderer instanceof ColumnChartRenderer) {
+            return ((ColumnChartRenderer) chartRenderer).getSelectedColumnsToIndex();
+        } else {
+            return -1;
+        }
+    }
+
     @Override
     public ColumnChartData getChartData() {
         return data;
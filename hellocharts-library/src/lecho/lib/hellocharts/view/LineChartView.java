@@ -1,15 +1,20 @@
 package lecho.lib.hellocharts.view;
 
 import android.content.Context;
+import android.support.v4.view.ViewCompat;
 import android.util.AttributeSet;
 import android.util.Log;
 
 import lecho.lib.hellocharts.BuildConfig;
+import lecho.lib.hellocharts.gesture.LineChartTouchHandler;
+import lecho.lib.hellocharts.listener.DummyLineChartOnCrosshairListener;
 import lecho.lib.hellocharts.listener.DummyLineChartOnValueSelectListener;
+import lecho.lib.hellocharts.listener.LineChartOnCrosshairListener;
 import lecho.lib.hellocharts.listener.LineChartOnValueSelectListener;
 import lecho.lib.hellocharts.model.ChartData;
 import lecho.lib.hellocharts.model.LineChartData;
 import lecho.lib.hellocharts.model.PointValue;
+import lecho.lib.hellocharts.model.RingPointSeries;
 import lecho.lib.hellocharts.model.SelectedValue;
 import lecho.lib.hellocharts.provider.LineChartDataProvider;
 import lecho.lib.hellocharts.renderer.LineChartRenderer;
@@ -24,6 +29,7 @@ public class LineChartView extends AbstractChartView implements LineChartDataPro
     private static final String TAG = "LineChartView";
     protected LineChartData data;
     protected LineChartOnValueSelectListener onValueTouchListener = new DummyLineChartOnValueSelectListener();
+    protected LineChartOnCrosshairListener onCrosshairListener = new DummyLineChartOnCrosshairListener();
 
     public LineChartView(Context context) {
         this(context, null, 0);
@@ -35,6 +41,7 @@ public class LineChartView extends AbstractChartView implements LineChartDataPro
 
     public LineChartView(Context context, AttributeSet attrs, int defStyle) {
         super(context, attrs, defStyle);
+        touchHandler = new LineChartTouchHandler(context, this);
         setChartRenderer(new LineChartRenderer(context, this, this));
         setLineChartData(LineChartData.generateDummyData());
     }
@@ -59,6 +66,221 @@ public class LineChartView extends AbstractChartView implements LineChartDataPro
         super.onChartDataChange();
     }
 
+    /**
+     * Call this method after values were appended to lines of current data, i.e. to {@link RingPointSeries}. Unlike
+     * {@link #setLineChartData(LineChartData)} it doesn't reinitialize renderers, it only recalculates viewports(if
+     * viewport calculation is enabled) and redraws chart.
+     */
+    public void onLineChartDataAppended() {
+        chartRenderer.onChartViewportChanged();
+        invalidateCachedContent();
+        ViewCompat.postInvalidateOnAnimation(this);
+    }
+
+    /**
+     * @see #setFollowTailWidth(float)
+     */
+    public float getFollowTailWidth() {
+        if (chartRenderer instanceof LineChartRenderer) {
+            return ((LineChartRenderer) chartRenderer).getFollowTailWidth();
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Set width of visible X range in follow tail mode, in that mode chart always shows the newest values. Pass 0 to
+     * disable follow tail mode.
+     *
+     * @see LineChartRenderer#setFollowTailWidth(float)
+     */
+    public void setFollowTailWidth(float followTailWidth) {
+        if (chartRenderer instanceof LineChartRenderer) {
+            ((LineChartRenderer) chartRenderer).setFollowTailWidth(followTailWidth);
+            chartRenderer.onChartViewportChanged();
+            invalidateCachedContent();
+            ViewCompat.postInvalidateOnAnimation(this);
+        }
+    }
+
+    /**
+     * Returns number of values skipped by per pixel aggregation during the last draw.
+     *
+     * @see lecho.lib.hellocharts.model.Line#setAggregated(boolean)
+     */
+    public int getSkippedValuesCount() {
+        if (chartRenderer instanceof LineChartRenderer) {
+            return ((LineChartRenderer) chartRenderer).getSkippedValuesCount();
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * @see #setLinesBatchingEnabled(boolean)
+     */
+    public boolean isLinesBatchingEnabled() {
+        if (chartRenderer instanceof LineChartRenderer) {
+            return ((LineChartRenderer) chartRenderer).isLinesBatchingEnabled();
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Enables drawing of straight lines with canvas.drawLines() in batches, useful for charts with many thin lines.
+     *
+     * @see LineChartRenderer#setLinesBatchingEnabled(boolean)
+     */
+    public void setLinesBatchingEnabled(boolean isLinesBatchingEnabled) {
+        if (chartRenderer instanceof LineChartRenderer) {
+            ((LineChartRenderer) chartRenderer).setLinesBatchingEnabled(isLinesBatchingEnabled);
+            invalidateCachedContent();
+            ViewCompat.postInvalidateOnAnimation(this);
+        }
+    }
+
+    /**
+     * @see #setPointSpritesEnabled(boolean)
+     */
+    public boolean isPointSpritesEnabled() {
+        if (chartRenderer instanceof LineChartRenderer) {
+            return ((LineChartRenderer) chartRenderer).isPointSpritesEnabled();
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Enables drawing of point markers from pre-rendered sprites, useful for lines with many points.
+     *
+     * @see LineChartRenderer#setPointSpritesEnabled(boolean)
+     */
+    public void setPointSpritesEnabled(boolean isPointSpritesEnabled) {
+        if (chartRenderer instanceof LineChartRenderer) {
+            ((LineChartRenderer) chartRenderer).setPointSpritesEnabled(isPointSpritesEnabled);
+            invalidateCachedContent();
+            ViewCompat.postInvalidateOnAnimation(this);
+        }
+    }
+
+    /**
+     * @see #setAreaMeshEnabled(boolean)
+     */
+    public boolean isAreaMeshEnabled() {
+        if (chartRenderer instanceof LineChartRenderer) {
+            return ((LineChartRenderer) chartRenderer).isAreaMeshEnabled();
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Enables drawing of filled line areas as triangle mesh instead of path.
+     *
+     * @see LineChartRenderer#setAreaMeshEnabled(boolean)
+     */
+    public void setAreaMeshEnabled(boolean isAreaMeshEnabled) {
+        if (chartRenderer instanceof LineChartRenderer) {
+            ((LineChartRenderer) chartRenderer).setAreaMeshEnabled(isAreaMeshEnabled);
+            invalidateCachedContent();
+            ViewCompat.postInvalidateOnAnimation(this);
+        }
+    }
+
+    /**
+     * @see #setCubicFlatteningThreshold(float)
+     */
+    public float getCubicFlatteningThreshold() {
+        if (chartRenderer instanceof LineChartRenderer) {
+            return ((LineChartRenderer) chartRenderer).getCubicFlatteningThreshold();
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Set length in pixels below which segments of cubic lines are drawn as straight lines.
+     *
+     * @see LineChartRenderer#setCubicFlatteningThreshold(float)
+     */
+    public void setCubicFlatteningThreshold(float cubicFlatteningThreshold) {
+        if (chartRenderer instanceof LineChartRenderer) {
+            ((LineChartRenderer) chartRenderer).setCubicFlatteningThreshold(cubicFlatteningThreshold);
+            invalidateCachedContent();
+            ViewCompat.postInvalidateOnAnimation(this);
+        }
+    }
+
+    /**
+     * @see #setLevelOfDetailMemoryBudget(long)
+     */
+    public long getLevelOfDetailMemoryBudget() {
+        if (chartRenderer instanceof LineChartRenderer) {
+            return ((LineChartRenderer) chartRenderer).getLevelOfDetailMemoryBudget();
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Set maximum number of bytes used by level of detail pyramids of all lines.
+     *
+     * @see LineChartRenderer#setLevelOfDetailMemoryBudget(long)
+     */
+    public void setLevelOfDetailMemoryBudget(long levelOfDetailMemoryBudget) {
+        if (chartRenderer instanceof LineChartRenderer) {
+            ((LineChartRenderer) chartRenderer).setLevelOfDetailMemoryBudget(levelOfDetailMemoryBudget);
+            invalidateCachedContent();
+            ViewCompat.postInvalidateOnAnimation(this);
+        }
+    }
+
+    /**
+     * @see #setCrosshairEnabled(boolean)
+     */
+    public boolean isCrosshairEnabled() {
+        if (chartRenderer instanceof LineChartRenderer) {
+            return ((LineChartRenderer) chartRenderer).isCrosshairEnabled();
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Enable crosshair mode, crosshair is shown by long press and follows finger until it's lifted, values of all
+     * lines at touched X are reported to {@link LineChartOnCrosshairListener} on every move. Chart is scrolled, zoomed
+     * and values are touched as usual until long press, while crosshair is dragged chart is not scrolled.
+     *
+     * @see LineChartRenderer#setCrosshairEnabled(boolean)
+     */
+    public void setCrosshairEnabled(boolean isCrosshairEnabled) {
+        if (chartRenderer instanceof LineChartRenderer) {
+            ((LineChartRenderer) chartRenderer).setCrosshairEnabled(isCrosshairEnabled);
+            ViewCompat.postInvalidateOnAnimation(this);
+        }
+    }
+
+    /**
+     * @see #setCrosshairInterpolated(boolean)
+     */
+    public boolean isCrosshairInterpolated() {
+        if (chartRenderer instanceof LineChartRenderer) {
+            return ((LineChartRenderer) chartRenderer).isCrosshairInterpolated();
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * @see LineChartRenderer#setCrosshairInterpolated(boolean)
+     */
+    public void setCrosshairInterpolated(boolean isCrosshairInterpolated) {
+        if (chartRenderer instanceof LineChartRenderer) {
+            ((LineChartRenderer) chartRenderer).setCrosshairInterpolated(isCrosshairInterpolated);
+        }
+    }
+
     @Override
     public ChartData getChartData() {
         return data;
@@ -86,4 +308,14 @@ public class LineChartView extends AbstractChartView implements LineChartDataPro
             this.onValueTouchListener = touchListener;
         }
     }
+
+    public LineChartOnCrosshairListener getOnCrosshairListener() {
+        return onCrosshairListener;
+    }
+
+    public void setOnCrosshairListener(LineChartOnCrosshairListener crosshairListener) {
+        if (null != crosshairListener) {
+            this.onCrosshairListener = crosshairListener;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package lecho.lib.hellocharts.view;
 
 import android.content.Context;
+import android.graphics.Canvas;
 import android.graphics.RectF;
 import android.os.Build;
 import android.support.v4.view.ViewCompat;
@@ -83,12 +84,34 @@ public class PieChartView extends AbstractChartView implements PieChartDataProvi
         return data;
     }
 
+    @Override
+    protected void onDraw(Canvas canvas) {
+        pieChartRenderer.setRotationInProgress(isRotationInProgress());
+        super.onDraw(canvas);
+    }
+
+    /**
+     * Returns true if chart rotation is animated or changed by user gesture.
+     */
+    protected boolean isRotationInProgress() {
+        if (rotationAnimator.isAnimationStarted()) {
+            return true;
+        }
+        return touchHandler instanceof PieChartTouchHandler
+                && ((PieChartTouchHandler) touchHandler).isRotationInProgress();
+    }
+
     @Override
     public void callTouchListener() {
         SelectedValue selectedValue = chartRenderer.getSelectedValue();
 
         if (selectedValue.isSet()) {
-            SliceValue sliceValue = data.getValues().get(selectedValue.getFirstIndex());
+            final SliceValue sliceValue;
+            if (pieChartRenderer.isOtherSliceIndex(selectedValue.getFirstIndex())) {
+                sliceValue = pieChartRenderer.getOtherSliceValue();
+            } else {
+                sliceValue = data.getValues().get(selectedValue.getFirstIndex());
+            }
             onValueTouchListener.onValueSelected(selectedValue.getFirstIndex(), sliceValue);
         } else {
             onValueTouchListener.onValueDeselected();
@@ -144,6 +167,7 @@ public class PieChartView extends AbstractChartView implements PieChartDataProvi
             rotationAnimator.startAnimation(pieChartRenderer.getChartRotation(), rotation);
         } else {
             pieChartRenderer.setChartRotation(rotation);
+            invalidateCachedContent();
         }
         ViewCompat.postInvalidateOnAnimation(this);
     }
@@ -168,12 +192,64 @@ public class PieChartView extends AbstractChartView implements PieChartDataProvi
     }
 
     /**
-     * Returns SliceValue that is under given angle, selectedValue (if not null) will be hold slice index.
+     * @see #setRotationLayerEnabled(boolean)
+     */
+    public boolean isRotationLayerEnabled() {
+        return pieChartRenderer.isRotationLayerEnabled();
+    }
+
+    /**
+     * Set true to draw slices from cached rotated layer while chart rotation is animated or changed by user, chart is
+     * fully redrawn when rotation settles.
+     *
+     * @see PieChartRenderer#setRotationLayerEnabled(boolean)
+     */
+    public void setRotationLayerEnabled(boolean isRotationLayerEnabled) {
+        pieChartRenderer.setRotationLayerEnabled(isRotationLayerEnabled);
+        ViewCompat.postInvalidateOnAnimation(this);
+    }
+
+    /**
+     * Returns SliceValue that is under given angle, selectedValue (if not null) will be hold value index.
+     *
+     * @see PieChartRenderer#getValueForAngle(int, SelectedValue)
      */
     public SliceValue getValueForAngle(int angle, SelectedValue selectedValue) {
         return pieChartRenderer.getValueForAngle(angle, selectedValue);
     }
 
+    /**
+     * Returns number of values merged into "other" slice, use it with {@link #getAggregatedValueIndex(int)} to list
+     * merged values when "other" slice is selected.
+     *
+     * @see PieChartData#setAggregationThreshold(float)
+     */
+    public int getAggregatedValuesCount() {
+        return pieChartRenderer.getAggregatedValuesCount();
+    }
+
+    /**
+     * @see PieChartRenderer#getAggregatedValueIndex(int)
+     */
+    public int getAggregatedValueIndex(int position) {
+        return pieChartRenderer.getAggregatedValueIndex(position);
+    }
+
+    /**
+     * @see PieChartRenderer#isValueAggregated(int)
+     */
+    public boolean isValueAggregated(int valueIndex) {
+        return pieChartRenderer.isValueAggregated(valueIndex);
+    }
+
+    /**
+     * Returns true if selected value index passed to
+     * {@link PieChartOnValueSelectListener#onValueSelected(int, SliceValue)} points to "other" slice.
+     */
+    public boolean isOtherSliceIndex(int valueIndex) {
+        return pieChartRenderer.isOtherSliceIndex(valueIndex);
+    }
+
     /**
      * @see #setCircleFillRatio(float)
      */